@@ -0,0 +1,78 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpochArrayExtensionsBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private long[] epochs;
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        var start = Instant.parse("2023-11-01T00:00:00Z").toEpochMilli();
+        epochs = LongStream.range(0, size).map(i -> start + i).toArray();
+        texts = EpochArrayExtensions.format(epochs, MILLISECONDS, PATTERN, ZONE);
+    }
+
+    @Benchmark
+    public String[] format() {
+        return parallel
+                ? EpochArrayExtensions.format(epochs, MILLISECONDS, PATTERN, ZONE, ForkJoinPool.commonPool())
+                : EpochArrayExtensions.format(epochs, MILLISECONDS, PATTERN, ZONE);
+    }
+
+    @Benchmark
+    public StringBuilder formatTo() {
+        return parallel
+                ? EpochArrayExtensions.formatTo(epochs, MILLISECONDS, PATTERN, ZONE, "\n", new StringBuilder(), ForkJoinPool.commonPool())
+                : EpochArrayExtensions.formatTo(epochs, MILLISECONDS, PATTERN, ZONE, "\n", new StringBuilder());
+    }
+
+    @Benchmark
+    public String[] formatJdk() {
+        var stream = LongStream.of(epochs);
+        return (parallel ? stream.parallel() : stream)
+                .mapToObj(x -> InstantExtensions.format(Instant.ofEpochMilli(x), PATTERN, ZONE))
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public long[] parse() {
+        return parallel
+                ? EpochArrayExtensions.parse(texts, MILLISECONDS, PATTERN, ZONE, ForkJoinPool.commonPool())
+                : EpochArrayExtensions.parse(texts, MILLISECONDS, PATTERN, ZONE);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantExtensionsBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN).withZone(ZONE);
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+    private static final CachedInstantFormatter CACHED_FORMATTER = CachedInstantFormatter.of(PATTERN, ZONE);
+
+    private Instant[] instants;
+    private CoarseClock coarseClock;
+
+    @Setup
+    public void setUp() {
+        var start = Instant.parse("2023-11-01T00:00:00Z");
+        coarseClock = InstantExtensions.coarseClock(Duration.ofMillis(1), PATTERN, ZONE);
+        instants = IntStream.range(0, size).mapToObj(i -> start.plusMillis(i)).toArray(Instant[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        coarseClock.close();
+    }
+
+    @Benchmark
+    public void format(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(InstantExtensions.format(instants[i], PATTERN, ZONE)));
+    }
+
+    @Benchmark
+    public void formatWithDefaultZone(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(InstantExtensions.format(instants[i], PATTERN)));
+    }
+
+    @Benchmark
+    public void formatJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(FORMATTER.format(instants[i])));
+    }
+
+    @Benchmark
+    public void formatToCached(Blackhole blackhole) {
+        stream().forEach(i -> {
+            var out = BUFFER.get();
+            out.setLength(0);
+            blackhole.consume(InstantExtensions.formatTo(instants[i], CACHED_FORMATTER, out));
+        });
+    }
+
+    @Benchmark
+    public void formatToJdk(Blackhole blackhole) {
+        stream().forEach(i -> {
+            var out = BUFFER.get();
+            out.setLength(0);
+            FORMATTER.formatTo(instants[i], out);
+            blackhole.consume(out);
+        });
+    }
+
+    @Benchmark
+    public void truncate(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(InstantExtensions.truncate(instants[i], ChronoUnit.HOURS, ZONE)));
+    }
+
+    @Benchmark
+    public void truncateJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(instants[i].atZone(ZONE).truncatedTo(ChronoUnit.HOURS).toInstant()));
+    }
+
+    @Benchmark
+    public Map<Instant, List<Instant>> groupingByBucket() {
+        return Arrays.stream(instants).collect(InstantExtensions.groupingByBucket(ChronoUnit.HOURS, ZONE));
+    }
+
+    @Benchmark
+    public Map<Instant, List<Instant>> groupingByBucketJdk() {
+        return Arrays.stream(instants).collect(Collectors.groupingBy(x -> x.atZone(ZONE).truncatedTo(ChronoUnit.HOURS).toInstant(), TreeMap::new, Collectors.toList()));
+    }
+
+    @Benchmark
+    public void coarseClockFormatted(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(coarseClock.formatted()));
+    }
+
+    @Benchmark
+    public void coarseClockFormattedJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(FORMATTER.format(Instant.now())));
+    }
+
+    private IntStream stream() {
+        var stream = IntStream.range(0, size);
+        return parallel ? stream.parallel() : stream;
+    }
+}
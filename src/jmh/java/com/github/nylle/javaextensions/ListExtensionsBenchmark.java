@@ -0,0 +1,322 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListExtensionsBenchmark {
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private List<Integer> other;
+    private IntKeyMap<Integer> intMap;
+    private Map<Integer, Integer> hashMap;
+    private CompactMap<Integer, Integer> compactMap;
+    private Integer[] lookups;
+    private IntList ints;
+
+    @Setup
+    public void setUp() {
+        list = IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+        other = IntStream.range(size, 2 * size).boxed().collect(Collectors.toCollection(ArrayList::new));
+        intMap = ListExtensions.toIntMap(list, x -> x, x -> x + 1);
+        hashMap = ListExtensions.toMap(list, x -> x, x -> x + 1, Parallelism.sequential());
+        compactMap = ListExtensions.toCompactMap(list, x -> x, x -> x + 1);
+        ints = ListExtensions.mapToInt(list, x -> x);
+        var shuffled = new ArrayList<>(list);
+        Collections.shuffle(shuffled, new Random(42));
+        lookups = shuffled.toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public List<Integer> concat() {
+        return ListExtensions.concat(list, other);
+    }
+
+    @Benchmark
+    public long concatView(Execution execution) {
+        return execution.stream(ListExtensions.concatView(list, other)).mapToLong(x -> x).sum();
+    }
+
+    @Benchmark
+    public List<Integer> concatJdk() {
+        var result = new ArrayList<Integer>(list.size() + other.size());
+        result.addAll(list);
+        result.addAll(other);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Benchmark
+    public Integer find() {
+        return ListExtensions.find(list, size - 1);
+    }
+
+    @Benchmark
+    public Integer findStream() {
+        return list.stream().skip(size - 1).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public Integer findJdk() {
+        return list.get(size - 1);
+    }
+
+    @Benchmark
+    public List<Integer> pad() {
+        return ListExtensions.pad(list, 2 * size, 0);
+    }
+
+    @Benchmark
+    public long padView(Execution execution) {
+        return execution.stream(ListExtensions.padView(list, 2 * size, 0)).mapToLong(x -> x).sum();
+    }
+
+    @Benchmark
+    public List<Integer> padJdk() {
+        var result = new ArrayList<Integer>(2 * size);
+        result.addAll(list);
+        result.addAll(Collections.nCopies(size, 0));
+        return Collections.unmodifiableList(result);
+    }
+
+    @Benchmark
+    public List<Integer> append() {
+        return ListExtensions.append(list, 0);
+    }
+
+    @Benchmark
+    public List<Integer> appendView() {
+        return ListExtensions.appendView(list, 0);
+    }
+
+    @Benchmark
+    public List<Integer> appendJdk() {
+        var result = new ArrayList<Integer>(list.size() + 1);
+        result.addAll(list);
+        result.add(0);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Benchmark
+    public List<Integer> map(Execution execution) {
+        return ListExtensions.map(list, x -> x + 1, execution.parallelism);
+    }
+
+    @Benchmark
+    public IntList mapInts() {
+        return ints.map(x -> x + 1);
+    }
+
+    @Benchmark
+    public IntList filterInts() {
+        return ints.filter(x -> x % 2 == 0);
+    }
+
+    @Benchmark
+    public long partitionInts() {
+        return ints.partition(100, 100).mapToLong(x -> x.get(0)).sum();
+    }
+
+    @Benchmark
+    public long partitionBoxed() {
+        return StreamExtensions.partition(list.stream(), 100, 100).mapToLong(x -> x.get(0)).sum();
+    }
+
+    @Benchmark
+    public List<Integer> mapExpensive(Execution execution) {
+        return ListExtensions.map(list, ListExtensionsBenchmark::work, execution.parallelism);
+    }
+
+    @Benchmark
+    public List<Integer> mapExpensiveJdk(Execution execution) {
+        return execution.stream(list).map(ListExtensionsBenchmark::work).toList();
+    }
+
+    @Benchmark
+    public Integer mapViewFirstPage() {
+        var view = ListExtensions.mapView(list, x -> x + 1);
+        var sum = 0;
+        for (int i = 0; i < Math.min(10, view.size()); i++) {
+            sum += view.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer mapFirstPage() {
+        var mapped = ListExtensions.map(list, x -> x + 1);
+        var sum = 0;
+        for (int i = 0; i < Math.min(10, mapped.size()); i++) {
+            sum += mapped.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> mapStream() {
+        return list.stream().map(x -> x + 1).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapJdk(Execution execution) {
+        return execution.stream(list).map(x -> x + 1).toList();
+    }
+
+    @Benchmark
+    public List<Integer> filter(Execution execution) {
+        return ListExtensions.filter(list, x -> x % 2 == 0, execution.parallelism);
+    }
+
+    @Benchmark
+    public List<Integer> filterStream() {
+        return list.stream().filter(x -> x % 2 == 0).toList();
+    }
+
+    @Benchmark
+    public List<Integer> filterJdk(Execution execution) {
+        return execution.stream(list).filter(x -> x % 2 == 0).toList();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap(Execution execution) {
+        return ListExtensions.toMap(list, Function.identity(), x -> x + 1, execution.parallelism);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapStream() {
+        return list.stream().collect(Collectors.toMap(Function.identity(), x -> x + 1));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapJdk() {
+        var result = new HashMap<Integer, Integer>((int) (list.size() / 0.75f) + 1);
+        for (var x : list) {
+            result.put(x, x + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapWithMergeFunction(Execution execution) {
+        return ListExtensions.toMap(list, x -> x % 1000, x -> x, Integer::sum, execution.parallelism);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapWithMergeFunctionJdk(Execution execution) {
+        return execution.stream(list).collect(Collectors.toMap(x -> x % 1000, x -> x, Integer::sum));
+    }
+
+    @Benchmark
+    public IntKeyMap<Integer> toIntMap() {
+        return ListExtensions.toIntMap(list, x -> x, x -> x + 1);
+    }
+
+    @Benchmark
+    public LongKeyMap<Integer> toLongMap() {
+        return ListExtensions.toLongMap(list, x -> x, x -> x + 1);
+    }
+
+    @Benchmark
+    public IntKeyMap<Integer> toIntMapWithMergeFunction() {
+        return ListExtensions.toIntMap(list, x -> x % 1000, x -> x, Integer::sum);
+    }
+
+    @Benchmark
+    public long getIntMap() {
+        var sum = 0L;
+        for (var key : lookups) {
+            sum += intMap.get(key.intValue());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public CompactMap<Integer, Integer> toCompactMap() {
+        return ListExtensions.toCompactMap(list, x -> x, x -> x + 1);
+    }
+
+    @Benchmark
+    public long getCompactMap() {
+        var sum = 0L;
+        for (var key : lookups) {
+            sum += compactMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getHashMap() {
+        var sum = 0L;
+        for (var key : lookups) {
+            sum += hashMap.get(key);
+        }
+        return sum;
+    }
+
+    private static int work(int value) {
+        var hash = value;
+        for (int i = 0; i < 256; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+
+    /**
+     * Whether the benchmarks that take it run on a fork-join pool, kept apart so that sequential-only benchmarks are
+     * not repeated for both values.
+     */
+    @State(Scope.Benchmark)
+    public static class Execution {
+
+        @Param({"false", "true"})
+        private boolean parallel;
+
+        private ForkJoinPool pool;
+        private Parallelism parallelism;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool();
+            parallelism = parallel ? Parallelism.on(pool).withThreshold(0) : Parallelism.sequential();
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+        private <T> Stream<T> stream(List<T> list) {
+            return parallel ? list.parallelStream() : list.stream();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.nylle.javaextensions;
+
+import com.github.nylle.javaextensions.MapExtensions.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapExtensionsBenchmark {
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    private Map<Integer, Integer> left;
+    private Map<Integer, Integer> right;
+    private TreeMap<Integer, Integer> sortedLeft;
+    private TreeMap<Integer, Integer> sortedRight;
+    private ConcurrentHashMap<Integer, Integer> concurrentLeft;
+    private ConcurrentHashMap<Integer, Integer> concurrentRight;
+
+    @Setup
+    public void setUp() {
+        left = new HashMap<>();
+        right = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            left.put(i, i);
+            right.put(i + size / 2, i);
+        }
+        sortedLeft = new TreeMap<>(left);
+        sortedRight = new TreeMap<>(right);
+        concurrentLeft = new ConcurrentHashMap<>(left);
+        concurrentRight = new ConcurrentHashMap<>(right);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> union() {
+        return MapExtensions.union(left, right);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> compactUnion() {
+        return MapExtensions.compactUnion(left, right);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> unionParallelJdk() {
+        var result = new ConcurrentHashMap<Integer, Tuple<Integer>>();
+        Stream.of(left.keySet(), right.keySet())
+                .flatMap(x -> x.stream())
+                .parallel()
+                .forEach(k -> result.computeIfAbsent(k, x -> new Tuple<>(left.get(x), right.get(x))));
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> unionJdk() {
+        var result = new HashMap<Integer, Tuple<Integer>>((int) ((left.size() + right.size()) / 0.75f) + 1);
+        left.forEach((k, v) -> result.put(k, new Tuple<>(v, right.get(k))));
+        right.forEach((k, v) -> result.putIfAbsent(k, new Tuple<>(null, v)));
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> unionSorted() {
+        return MapExtensions.union(sortedLeft, sortedRight);
+    }
+
+    @Benchmark
+    public long unionSortedStream() {
+        return MapExtensions.unionStream(sortedLeft, sortedRight).count();
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> unionSortedJdk() {
+        var result = new TreeMap<Integer, Tuple<Integer>>();
+        sortedLeft.forEach((k, v) -> result.put(k, new Tuple<>(v, sortedRight.get(k))));
+        sortedRight.forEach((k, v) -> result.putIfAbsent(k, new Tuple<>(null, v)));
+        return result;
+    }
+
+    @Benchmark
+    public long unionView() {
+        var sum = 0L;
+        for (var entry : MapExtensions.unionView(left, right).entrySet()) {
+            sum += entry.getKey();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachUnion() {
+        var sum = new long[1];
+        MapExtensions.forEachUnion(left, right, (key, l, r) -> sum[0] += key);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long forEachUnionSorted() {
+        var sum = new long[1];
+        MapExtensions.forEachUnion(sortedLeft, sortedRight, (key, l, r) -> sum[0] += key);
+        return sum[0];
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> unionConcurrent() {
+        return MapExtensions.union(concurrentLeft, concurrentRight);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> intersection() {
+        return MapExtensions.intersection(left, right);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> intersectionConcurrent() {
+        return MapExtensions.intersection(concurrentLeft, concurrentRight);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> difference() {
+        return MapExtensions.difference(left, right);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> differenceConcurrent() {
+        return MapExtensions.difference(concurrentLeft, concurrentRight);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> symmetricDifference() {
+        return MapExtensions.symmetricDifference(left, right);
+    }
+
+    @Benchmark
+    public Map<Integer, Tuple<Integer>> symmetricDifferenceConcurrent() {
+        return MapExtensions.symmetricDifference(concurrentLeft, concurrentRight);
+    }
+}
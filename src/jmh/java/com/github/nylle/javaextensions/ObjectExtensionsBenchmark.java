@@ -0,0 +1,102 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectExtensionsBenchmark {
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private String[] objects;
+
+    @Setup
+    public void setUp() {
+        objects = IntStream.range(0, size).mapToObj(i -> i % 2 == 0 ? "foo" + i : null).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void optional(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.optional(objects[i])));
+    }
+
+    @Benchmark
+    public void optionalJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(Optional.ofNullable(objects[i])));
+    }
+
+    @Benchmark
+    public void let(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.let(objects[i], x -> x.length())));
+    }
+
+    @Benchmark
+    public void letJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(objects[i] != null ? objects[i].length() : null));
+    }
+
+    @Benchmark
+    public void with(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.with(objects[i], x -> x == null)));
+    }
+
+    @Benchmark
+    public void withJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(objects[i] == null));
+    }
+
+    @Benchmark
+    public void or(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.or(objects[i], "bar")));
+    }
+
+    @Benchmark
+    public void orWithSupplier(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.or(objects[i], () -> "bar")));
+    }
+
+    @Benchmark
+    public void orJdk(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(objects[i] != null ? objects[i] : "bar"));
+    }
+
+    @Benchmark
+    public void also(Blackhole blackhole) {
+        stream().forEach(i -> blackhole.consume(ObjectExtensions.also(objects[i], blackhole::consume)));
+    }
+
+    @Benchmark
+    public void alsoJdk(Blackhole blackhole) {
+        stream().forEach(i -> {
+            blackhole.consume(objects[i]);
+            blackhole.consume(objects[i]);
+        });
+    }
+
+    private IntStream stream() {
+        return parallel ? IntStream.range(0, size).parallel() : IntStream.range(0, size);
+    }
+}
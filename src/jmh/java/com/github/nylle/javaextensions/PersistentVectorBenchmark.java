@@ -0,0 +1,74 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentVectorBenchmark {
+
+    // repeated ListExtensions.append is quadratic, so sizes stop well below 10M
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private PersistentVector<Integer> vector;
+
+    @Setup
+    public void setUp() {
+        vector = PersistentVector.copyOf(IntStream.range(0, size).boxed().toList());
+    }
+
+    @Benchmark
+    public List<Integer> appendRepeatedly() {
+        List<Integer> result = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            result = ListExtensions.append(result, i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> appendRepeatedlyCopying() {
+        List<Integer> result = List.of();
+        for (int i = 0; i < size; i++) {
+            result = ListExtensions.append(result, i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> builder() {
+        var builder = PersistentVector.<Integer>builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<Integer> update() {
+        return vector.update(size / 2, -1);
+    }
+
+    @Benchmark
+    public long iterate() {
+        return vector.stream().mapToLong(x -> x).sum();
+    }
+}
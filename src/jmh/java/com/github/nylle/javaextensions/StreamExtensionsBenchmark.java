@@ -0,0 +1,241 @@
+package com.github.nylle.javaextensions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamExtensionsBenchmark {
+
+    @Param({"10", "10000", "10000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private List<Integer> source;
+
+    @Setup
+    public void setUp() {
+        source = IntStream.range(0, size).boxed().toList();
+    }
+
+    @Benchmark
+    public long range() {
+        return stream(StreamExtensions.range(size)).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeJdk() {
+        return stream(IntStream.range(0, size).boxed()).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeIterate() {
+        return stream(Stream.iterate(0, i -> i < size, i -> i + 1)).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long intRange() {
+        var stream = StreamExtensions.intRange(size);
+        return (parallel ? stream.parallel() : stream).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intRangeWithStep() {
+        var stream = StreamExtensions.intRange(0, size, 3);
+        return (parallel ? stream.parallel() : stream).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long longRange() {
+        var stream = StreamExtensions.longRange(size);
+        return (parallel ? stream.parallel() : stream).sum();
+    }
+
+    @Benchmark
+    public long rangeWithStep() {
+        return stream(StreamExtensions.range(0, size, 3)).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeWithStepJdk() {
+        return stream(IntStream.iterate(0, i -> i < size, i -> i + 3).boxed()).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeWithStepIterate() {
+        return stream(Stream.iterate(0, i -> i < size, i -> i + 3)).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeInfinite() {
+        return stream(StreamExtensions.range()).limit(size).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long rangeInfiniteJdk() {
+        return stream(Stream.iterate(0, i -> i + 1)).limit(size).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long partition() {
+        return StreamExtensions.partition(stream(source.stream()), 8).mapToLong(window -> window.get(0)).sum();
+    }
+
+    @Benchmark
+    public long partitionJdk() {
+        return stream(IntStream.range(0, source.size() / 8).boxed())
+                .map(i -> source.subList(i * 8, i * 8 + 8))
+                .mapToLong(window -> window.get(0))
+                .sum();
+    }
+
+    @Benchmark
+    public long partitionSlidingWindow() {
+        return StreamExtensions.partition(stream(source.stream()), 8, 1).mapToLong(window -> window.get(0)).sum();
+    }
+
+    @Benchmark
+    public long partitionSlidingWindowJdk() {
+        return stream(IntStream.rangeClosed(0, source.size() - 8).boxed())
+                .map(i -> source.subList(i, i + 8))
+                .mapToLong(window -> window.get(0))
+                .sum();
+    }
+
+    @Benchmark
+    public long partitionSlidingWindowReusingBuffer() {
+        return StreamExtensions.partitionReusingBuffer(stream(source.stream()), 8, 1).mapToLong(window -> window.get(0)).sum();
+    }
+
+    @Benchmark
+    public long partitionLargeSlidingWindow() {
+        return StreamExtensions.partition(stream(source.stream()), 1000, 1).mapToLong(window -> window.get(999)).sum();
+    }
+
+    @Benchmark
+    public long partitionLargeSlidingWindowReusingBuffer() {
+        return StreamExtensions.partitionReusingBuffer(stream(source.stream()), 1000, 1).mapToLong(window -> window.get(999)).sum();
+    }
+
+    @Benchmark
+    public long partitionSlidingWindowSum() {
+        return StreamExtensions.partition(stream(source.stream()), 64, 1)
+                .mapToLong(window -> window.stream().mapToLong(i -> i).sum())
+                .sum();
+    }
+
+    @Benchmark
+    public long partitionSlidingWindowSumJdk() {
+        return stream(IntStream.rangeClosed(0, source.size() - 64).boxed())
+                .mapToLong(i -> source.subList(i, i + 64).stream().mapToLong(x -> x).sum())
+                .sum();
+    }
+
+    @Benchmark
+    public long partitionWithPad() {
+        return StreamExtensions.partition(stream(source.stream()), 8, 8, List.of(0)).mapToLong(window -> window.get(0)).sum();
+    }
+
+    @Benchmark
+    public long partitionWithPadJdk() {
+        var padded = new ArrayList<>(source);
+        while (padded.size() % 8 != 0) {
+            padded.add(0);
+        }
+        return stream(IntStream.range(0, padded.size() / 8).boxed())
+                .map(i -> padded.subList(i * 8, i * 8 + 8))
+                .mapToLong(window -> window.get(0))
+                .sum();
+    }
+
+    @Benchmark
+    public long batch() {
+        return StreamExtensions.batch(source.stream(), 1000, Duration.ofMillis(10)).count();
+    }
+
+    @Benchmark
+    public long batchReusingBuffer() {
+        var count = new long[1];
+        StreamExtensions.forEachBatch(source.stream(), 1000, Duration.ofMillis(10), batch -> count[0]++);
+        return count[0];
+    }
+
+    @Benchmark
+    public long prefetch() {
+        return StreamExtensions.prefetch(source.stream().map(StreamExtensionsBenchmark::work), 1024).mapToLong(StreamExtensionsBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long prefetchJdk() {
+        return source.stream().map(StreamExtensionsBenchmark::work).mapToLong(StreamExtensionsBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long zip() {
+        return StreamExtensions.zip(stream(source.stream()), stream(source.stream()), (a, b) -> a + b).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long zipJdk() {
+        return stream(IntStream.range(0, source.size()).boxed())
+                .map(i -> source.get(i) + source.get(i))
+                .mapToLong(i -> i)
+                .sum();
+    }
+
+    @Benchmark
+    public long zipAll() {
+        return StreamExtensions.zip(List.of(stream(source.stream()), source.stream(), source.stream()), values -> values.get(0) + values.get(1) + values.get(2)).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long zipWithIndex() {
+        return StreamExtensions.zipWithIndex(stream(source.stream()), (item, index) -> item + index).mapToLong(i -> i).sum();
+    }
+
+    @Benchmark
+    public long zipInts() {
+        var ints = IntStream.range(0, size);
+        return StreamExtensions.zip(parallel ? ints.parallel() : ints, IntStream.range(0, size), Integer::sum).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long zipIntsJdk() {
+        var ints = IntStream.range(0, size);
+        return (parallel ? ints.parallel() : ints).map(i -> i + i).asLongStream().sum();
+    }
+
+    private <T> Stream<T> stream(Stream<T> stream) {
+        return parallel ? stream.parallel() : stream.sequential();
+    }
+
+    private static int work(int value) {
+        var hash = value;
+        for (int i = 0; i < 64; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.nylle.javaextensions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups the elements of a {@link PrefetchingIterator} into batches of up to {@code size} elements. A batch is
+ * complete when it is full or when {@code maxDelay} has passed since its first element arrived, whichever comes
+ * first, so batches are never empty.
+ */
+class BatchIterator<T> implements Iterator<List<T>>, AutoCloseable {
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final PrefetchingIterator<T> source;
+    private final int size;
+    private final long maxDelayNanos;
+    private final ArrayList<T> reused;
+    private final List<T> reusedView;
+
+    private BatchIterator(Iterator<T> source, int size, Duration maxDelay, boolean reuse) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay);
+        }
+
+        this.source = new PrefetchingIterator<>(source, size);
+        this.size = size;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.reused = reuse ? new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY)) : null;
+        this.reusedView = reuse ? Collections.unmodifiableList(reused) : null;
+    }
+
+    /**
+     * Creates an iterator returning a new immutable list for every batch.
+     */
+    static <T> BatchIterator<T> of(Iterator<T> source, int size, Duration maxDelay) {
+        return new BatchIterator<>(source, size, maxDelay, false);
+    }
+
+    /**
+     * Creates an iterator returning the same read-only view for every batch, valid until the next call to
+     * {@link #next()}.
+     */
+    static <T> BatchIterator<T> reusing(Iterator<T> source, int size, Duration maxDelay) {
+        return new BatchIterator<>(source, size, maxDelay, true);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var batch = reused != null ? reused : new ArrayList<T>(Math.min(size, MAX_INITIAL_CAPACITY));
+        batch.clear();
+        batch.add(source.next());
+
+        var deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < size && source.hasNext(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            batch.add(source.next());
+        }
+
+        return reused != null ? reusedView : Collections.unmodifiableList(batch);
+    }
+
+    @Override
+    public void close() {
+        source.close();
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.nylle.javaextensions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A thread-safe formatter for {@link Instant}s that caches the formatted output for the current second.
+ * <p>
+ * Patterns that contain at most one run of fraction-of-second letters ({@code S}) and no other sub-second fields
+ * are specialized: the text before and after the fraction is formatted once per second and only the fraction
+ * digits are written for every instant. Formatting consecutive instants within the same second into a
+ * {@link StringBuilder} therefore allocates nothing.
+ * <p>
+ * All other patterns fall back to {@link DateTimeFormatter}.
+ */
+public class CachedInstantFormatter {
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private final DateTimeFormatter formatter;
+    private final DateTimeFormatter prefixFormatter;
+    private final DateTimeFormatter suffixFormatter;
+    private final int fractionDigits;
+    private volatile Second second = new Second(Long.MIN_VALUE, "", "");
+
+    private CachedInstantFormatter(DateTimeFormatter formatter, DateTimeFormatter prefixFormatter, DateTimeFormatter suffixFormatter, int fractionDigits) {
+        this.formatter = formatter;
+        this.prefixFormatter = prefixFormatter;
+        this.suffixFormatter = suffixFormatter;
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * Creates a formatter for {@code pattern} and {@code zoneId}.
+     *
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @return a new formatter, specialized if {@code pattern} allows it
+     * @throws IllegalArgumentException if {@code pattern} is invalid
+     */
+    public static CachedInstantFormatter of(String pattern, ZoneId zoneId) {
+        var formatter = DateTimeFormatter.ofPattern(pattern).withZone(zoneId);
+        var fraction = findFraction(pattern);
+        if (fraction == null) {
+            return new CachedInstantFormatter(formatter, null, null, -1);
+        }
+
+        return new CachedInstantFormatter(
+                formatter,
+                DateTimeFormatter.ofPattern(pattern.substring(0, fraction[0])).withZone(zoneId),
+                DateTimeFormatter.ofPattern(pattern.substring(fraction[1])).withZone(zoneId),
+                fraction[1] - fraction[0]);
+    }
+
+    /**
+     * Returns a new formatter for the same pattern and zone with its own per-second cache.
+     * <p>
+     * Useful to avoid threads that format different seconds from overwriting each other's cache.
+     */
+    CachedInstantFormatter copy() {
+        return new CachedInstantFormatter(formatter, prefixFormatter, suffixFormatter, fractionDigits);
+    }
+
+    /**
+     * Returns whether this formatter uses the per-second cache or falls back to {@link DateTimeFormatter}.
+     *
+     * @return true if the pattern was specialized
+     */
+    public boolean isSpecialized() {
+        return fractionDigits >= 0;
+    }
+
+    /**
+     * Formats {@code instant}.
+     *
+     * @param instant the instant to format
+     * @return the formatted date and time according to the pattern
+     */
+    public String format(Instant instant) {
+        return formatTo(instant, new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Formats {@code instant} and appends the result to {@code out}.
+     *
+     * @param instant the instant to format
+     * @param out the builder to append to
+     * @return {@code out}
+     */
+    public StringBuilder formatTo(Instant instant, StringBuilder out) {
+        if (!isSpecialized()) {
+            formatter.formatTo(instant, out);
+            return out;
+        }
+        return formatTo(instant.getEpochSecond(), instant.getNano(), out);
+    }
+
+    /**
+     * Formats the instant at {@code epochSecond} and {@code nanos} and appends the result to {@code out}.
+     *
+     * @param epochSecond the seconds since 1970-01-01T00:00:00Z
+     * @param nanos the nanosecond adjustment within the second, from 0 to 999,999,999
+     * @param out the builder to append to
+     * @return {@code out}
+     * @throws IllegalArgumentException if {@code nanos} is out of range
+     */
+    public StringBuilder formatTo(long epochSecond, int nanos, StringBuilder out) {
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("nanos out of range: " + nanos);
+        }
+        try {
+            appendTo(epochSecond, nanos, out);
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats {@code instant} and appends the result to {@code out}.
+     *
+     * @param instant the instant to format
+     * @param out the appendable to append to
+     * @throws IOException if appending to {@code out} fails
+     */
+    public void formatTo(Instant instant, Appendable out) throws IOException {
+        if (!isSpecialized()) {
+            formatter.formatTo(instant, out);
+            return;
+        }
+        appendTo(instant.getEpochSecond(), instant.getNano(), out);
+    }
+
+    private void appendTo(long epochSecond, int nanos, Appendable out) throws IOException {
+        if (!isSpecialized()) {
+            formatter.formatTo(Instant.ofEpochSecond(epochSecond, nanos), out);
+            return;
+        }
+
+        var second = this.second;
+        if (second.epochSecond != epochSecond) {
+            var instant = Instant.ofEpochSecond(epochSecond);
+            second = new Second(epochSecond, prefixFormatter.format(instant), suffixFormatter.format(instant));
+            this.second = second;
+        }
+
+        out.append(second.prefix);
+        var fraction = nanos / POWERS_OF_TEN[9 - fractionDigits];
+        for (int i = fractionDigits - 1; i >= 0; i--) {
+            out.append((char) ('0' + fraction / POWERS_OF_TEN[i] % 10));
+        }
+        out.append(second.suffix);
+    }
+
+    /**
+     * Returns the start (inclusive) and end (exclusive) of the single run of {@code S} in {@code pattern}, an empty
+     * run at the end if there is none, or null if the pattern contains more than one run, optional sections or other
+     * sub-second fields.
+     */
+    private static int[] findFraction(String pattern) {
+        int start = -1;
+        int end = -1;
+        var quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            var c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (quoted) {
+                continue;
+            } else if (c == 'S') {
+                if (start >= 0 && end != i) {
+                    return null;
+                }
+                if (start < 0) {
+                    start = i;
+                }
+                end = i + 1;
+            } else if (c == 'n' || c == 'N' || c == 'A' || c == '[' || c == ']' || c == '{' || c == '}') {
+                return null;
+            }
+        }
+
+        return start < 0
+                ? new int[]{pattern.length(), pattern.length()}
+                : new int[]{start, end};
+    }
+
+    private record Second(long epochSecond, String prefix, String suffix) { }
+}
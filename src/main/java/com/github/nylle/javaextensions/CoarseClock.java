@@ -0,0 +1,109 @@
+package com.github.nylle.javaextensions;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A clock that is refreshed by a background daemon thread at a fixed resolution.
+ * <p>
+ * Reading the current {@link Instant} or its pre-formatted string is a single volatile read, which makes it suitable
+ * for callers that need "now" far more often than the resolution changes it, e.g. request logging.
+ * <p>
+ * The background thread runs until the clock is closed.
+ */
+public class CoarseClock implements AutoCloseable {
+
+    private final Clock source;
+    private final CachedInstantFormatter formatter;
+    private final ScheduledExecutorService scheduler;
+    private volatile Tick tick;
+
+    CoarseClock(Clock source, Duration resolution, CachedInstantFormatter formatter) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution must be positive: " + resolution);
+        }
+
+        this.source = source;
+        this.formatter = formatter;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        refresh();
+        var nanos = resolution.toNanos();
+        scheduler.scheduleAtFixedRate(this::refresh, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the current instant as of the last refresh.
+     *
+     * @return the current instant, at most one resolution old
+     */
+    public Instant instant() {
+        return tick.instant;
+    }
+
+    /**
+     * Returns the current instant as of the last refresh, formatted with the pattern and zone of this clock.
+     *
+     * @return the formatted current instant, at most one resolution old
+     */
+    public String formatted() {
+        return tick.formatted;
+    }
+
+    /**
+     * Returns a {@link Clock} backed by this clock in the provided {@link ZoneId}.
+     *
+     * @param zoneId the zone of the returned clock
+     * @return a clock returning the instants of this clock
+     */
+    public Clock asClock(ZoneId zoneId) {
+        return new CoarseClockAdapter(this, zoneId);
+    }
+
+    /**
+     * Stops the background thread refreshing this clock. The clock keeps returning the last instant.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void refresh() {
+        var instant = source.instant();
+        tick = new Tick(instant, formatter.format(instant));
+    }
+
+    private record Tick(Instant instant, String formatted) { }
+
+    @RequiredArgsConstructor
+    private static class CoarseClockAdapter extends Clock {
+        private final CoarseClock clock;
+        private final ZoneId zoneId;
+
+        @Override
+        public ZoneId getZone() {
+            return zoneId;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(zoneId) ? this : new CoarseClockAdapter(clock, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+    }
+}
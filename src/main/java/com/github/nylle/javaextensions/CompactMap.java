@@ -0,0 +1,278 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+
+/**
+ * An immutable {@link Map} that stores its entries in a single flat array instead of node objects.
+ * <p>
+ * The array holds a key at every even and its value at the following odd index, so a lookup that finds its key reads
+ * the value from the same cache line. The number of slots is a power of two, and collisions are resolved by linear
+ * probing. The array is sized once for the final number of entries, so the table is between a third and two thirds
+ * full. A {@link java.util.HashMap} entry costs a 32 byte node plus a table slot, whereas an entry of this map costs
+ * three to six array elements of 4 bytes with compressed references.
+ * <p>
+ * Like {@link Map#of()}, this map does not permit {@code null} keys or values, and all mutators throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ALIGNMENT = 8;
+
+    // keySet and values inherited from AbstractMap, table and size
+    private static final long OBJECT_BYTES = align(OBJECT_HEADER_BYTES + 3 * REFERENCE_BYTES + Integer.BYTES);
+
+    private final Object[] table;
+    private final int size;
+
+    private CompactMap(Object[] table, int size) {
+        this.table = table;
+        this.size = size;
+    }
+
+    /**
+     * Creates a compact copy of {@code map}.
+     *
+     * @param map the map to copy
+     * @return {@code map} if it is a compact map, otherwise a new compact map containing its entries
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @throws NullPointerException if {@code map} contains a {@code null} key or value
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof CompactMap<?, ?> compact) {
+            return (CompactMap<K, V>) compact;
+        }
+        var builder = new Builder<K, V>(map.size());
+        map.forEach(builder::putIfAbsent);
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && table[indexOf(table, key)] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return key == null ? null : (V) table[indexOf(table, key) + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                action.accept((K) table[i], (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Entries();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of slots in the table, which is a power of two.
+     *
+     * @return the number of entries the table has room for
+     */
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    /**
+     * Estimates the number of bytes held by this map itself, excluding its keys and values, assuming a 64-bit JVM with
+     * compressed references and class pointers as is the default for heaps below 32 GB, and objects aligned to 8 bytes.
+     *
+     * @return the estimated shallow footprint in bytes
+     */
+    public long footprint() {
+        return OBJECT_BYTES + align(ARRAY_HEADER_BYTES + (long) table.length * REFERENCE_BYTES);
+    }
+
+    /**
+     * Returns the index of {@code key} in {@code table}, or of the empty slot ending its probe sequence.
+     */
+    private static int indexOf(Object[] table, Object key) {
+        var mask = table.length - 2;
+        var index = (hash(key) << 1) & mask;
+        for (var candidate = table[index]; candidate != null && candidate != key && !candidate.equals(key); candidate = table[index]) {
+            index = (index + 2) & mask;
+        }
+        return index;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static int hash(Object key) {
+        var h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the length of the smallest table that keeps {@code size} entries at most two thirds full.
+     */
+    private static int tableLength(int size) {
+        var minimum = Math.max(size + (size + 1) / 2, 2);
+        if (minimum > 1 << 29) {
+            throw new IllegalArgumentException("Too many entries: " + size);
+        }
+        return Integer.highestOneBit(minimum - 1) << 2;
+    }
+
+    /**
+     * Fills a table sized for an expected number of entries, which is shrunk to fit when fewer keys are distinct.
+     */
+    static final class Builder<K, V> {
+        private Object[] table;
+        private int size;
+
+        Builder(int expectedSize) {
+            table = new Object[tableLength(expectedSize)];
+        }
+
+        @SuppressWarnings("unchecked")
+        V putIfAbsent(K key, V value) {
+            Objects.requireNonNull(value);
+            var index = indexOf(table, Objects.requireNonNull(key));
+            if (table[index] != null) {
+                return (V) table[index + 1];
+            }
+            insert(index, key, value);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        void merge(K key, V value, BinaryOperator<V> mergeFunction) {
+            Objects.requireNonNull(value);
+            var index = indexOf(table, Objects.requireNonNull(key));
+            if (table[index] == null) {
+                insert(index, key, value);
+                return;
+            }
+
+            var merged = mergeFunction.apply((V) table[index + 1], value);
+            if (merged == null) {
+                remove(index);
+            } else {
+                table[index + 1] = merged;
+            }
+        }
+
+        CompactMap<K, V> build() {
+            var length = tableLength(size);
+            if (length < table.length) {
+                resize(length);
+            }
+            var result = new CompactMap<K, V>(table, size);
+            table = null;
+            return result;
+        }
+
+        private void insert(int index, K key, V value) {
+            table[index] = key;
+            table[index + 1] = value;
+            if (tableLength(++size) > table.length) {
+                resize(table.length * 2);
+            }
+        }
+
+        /**
+         * Empties {@code index} and shifts later entries of the same cluster back, so that no probe sequence is broken.
+         */
+        private void remove(int index) {
+            var mask = table.length - 2;
+            var gap = index;
+            var next = (index + 2) & mask;
+            while (table[next] != null) {
+                var home = (hash(table[next]) << 1) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    table[gap] = table[next];
+                    table[gap + 1] = table[next + 1];
+                    gap = next;
+                }
+                next = (next + 2) & mask;
+            }
+            table[gap] = null;
+            table[gap + 1] = null;
+            size--;
+        }
+
+        private void resize(int length) {
+            var old = table;
+            table = new Object[length];
+            var mask = length - 2;
+            for (int i = 0; i < old.length; i += 2) {
+                if (old[i] != null) {
+                    var index = (hash(old[i]) << 1) & mask;
+                    while (table[index] != null) {
+                        index = (index + 2) & mask;
+                    }
+                    table[index] = old[i];
+                    table[index + 1] = old[i + 1];
+                }
+            }
+        }
+    }
+
+    private class Entries implements Iterator<Entry<K, V>> {
+        private int index = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var entry = new SimpleImmutableEntry<>((K) table[index], (V) table[index + 1]);
+            index = advance(index + 2);
+            return entry;
+        }
+
+        private int advance(int from) {
+            while (from < table.length && table[from] == null) {
+                from += 2;
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An immutable view of the concatenation of several lists.
+ * <p>
+ * Indexed access is a binary search over the segment offsets. Views created from one another share growable segment
+ * and offset arrays, each view bounded by its own segment count. Extending the view that last claimed the arrays
+ * writes past its bound in place, so appending to a view in a loop takes amortized constant time per append; any
+ * other view is copied into new arrays of twice the size first. The source lists must not be structurally modified
+ * while the view is in use.
+ * <p>
+ * The view is only {@link RandomAccess} if all of its lists are.
+ */
+class CompositeList<T> extends AbstractList<T> {
+    private static final int MIN_CAPACITY = 4;
+
+    private final Claim claim;
+    private final List<T>[] segments;
+    private final int[] offsets;
+    private final int count;
+    private final boolean randomAccess;
+
+    private CompositeList(Claim claim, List<T>[] segments, int[] offsets, int count, boolean randomAccess) {
+        this.claim = claim;
+        this.segments = segments;
+        this.offsets = offsets;
+        this.count = count;
+        this.randomAccess = randomAccess;
+    }
+
+    /**
+     * Creates a view of {@code lists}, extending the first one in place if it is a view itself. Nested views are
+     * flattened into their segments and empty lists are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompositeList<T> of(List<List<T>> lists) {
+        var first = lists.get(0);
+        var base = first instanceof CompositeList<T> composite
+                ? composite
+                : create(new Claim(), (List<T>[]) new List<?>[MIN_CAPACITY], new int[MIN_CAPACITY + 1], 0, true);
+
+        var additions = new ArrayList<List<T>>(lists.size());
+        for (int i = base == first ? 1 : 0; i < lists.size(); i++) {
+            var list = lists.get(i);
+            if (list instanceof CompositeList<T> composite) {
+                additions.addAll(Arrays.asList(composite.segments).subList(0, composite.count));
+            } else if (!list.isEmpty()) {
+                additions.add(list);
+            }
+        }
+        return base.extend(additions);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        var segment = segmentOf(index);
+        return segments[segment].get(index - offsets[segment]);
+    }
+
+    @Override
+    public int size() {
+        return offsets[count];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CompositeIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new CompositeSpliterator(0, size());
+    }
+
+    private static <T> CompositeList<T> create(Claim claim, List<T>[] segments, int[] offsets, int count, boolean randomAccess) {
+        return randomAccess
+                ? new RandomAccessCompositeList<>(claim, segments, offsets, count)
+                : new CompositeList<>(claim, segments, offsets, count, false);
+    }
+
+    private CompositeList<T> extend(List<List<T>> additions) {
+        if (additions.isEmpty()) {
+            return this;
+        }
+
+        var total = count + additions.size();
+        var randomAccess = this.randomAccess && additions.stream().allMatch(list -> list instanceof RandomAccess);
+        synchronized (claim) {
+            if (claim.count == count && total <= segments.length) {
+                fill(segments, offsets, count, additions);
+                claim.count = total;
+                return create(claim, segments, offsets, total, randomAccess);
+            }
+        }
+
+        var capacity = Math.max(total, 2 * segments.length);
+        var grown = Arrays.copyOf(segments, capacity);
+        var grownOffsets = Arrays.copyOf(offsets, capacity + 1);
+        fill(grown, grownOffsets, count, additions);
+        var grownClaim = new Claim();
+        grownClaim.count = total;
+        return create(grownClaim, grown, grownOffsets, total, randomAccess);
+    }
+
+    private static <T> void fill(List<T>[] segments, int[] offsets, int from, List<List<T>> additions) {
+        for (int i = 0; i < additions.size(); i++) {
+            segments[from + i] = additions.get(i);
+            offsets[from + i + 1] = Math.addExact(offsets[from + i], additions.get(i).size());
+        }
+    }
+
+    private int segmentOf(int index) {
+        var segment = Arrays.binarySearch(offsets, 0, count, index);
+        return segment >= 0 ? segment : -segment - 2;
+    }
+
+    /**
+     * The number of segments claimed by the views sharing an array; only the view at that bound may extend it in
+     * place.
+     */
+    private static final class Claim {
+        private int count;
+    }
+
+    private static final class RandomAccessCompositeList<T> extends CompositeList<T> implements RandomAccess {
+
+        private RandomAccessCompositeList(Claim claim, List<T>[] segments, int[] offsets, int count) {
+            super(claim, segments, offsets, count, true);
+        }
+    }
+
+    private class CompositeIterator implements Iterator<T> {
+        private int segment;
+        private Iterator<T> current = count > 0 ? segments[0].iterator() : null;
+
+        @Override
+        public boolean hasNext() {
+            while (current != null && !current.hasNext()) {
+                current = ++segment < count ? segments[segment].iterator() : null;
+            }
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private class CompositeSpliterator implements Spliterator<T> {
+        private int index;
+        private final int end;
+        private int segment;
+        private ListIterator<T> current;
+
+        private CompositeSpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end) {
+                return false;
+            }
+            if (current == null) {
+                segment = segmentOf(index);
+                current = segments[segment].listIterator(index - offsets[segment]);
+            } else if (index == offsets[segment + 1]) {
+                current = segments[++segment].listIterator();
+            }
+            index++;
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (index >= end) {
+                return;
+            }
+
+            var segment = segmentOf(index);
+            while (index < end) {
+                var from = index - offsets[segment];
+                var to = Math.min(end, offsets[segment + 1]) - offsets[segment];
+                segments[segment].subList(from, to).forEach(action);
+                index += to - from;
+                segment++;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            var middle = (index + end) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            var prefix = new CompositeSpliterator(index, middle);
+            index = middle;
+            current = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
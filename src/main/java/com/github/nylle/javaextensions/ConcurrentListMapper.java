@@ -0,0 +1,167 @@
+package com.github.nylle.javaextensions;
+
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Maps an array with up to {@code maxConcurrency} workers that claim indices one at a time, so slow elements do not
+ * hold up a whole chunk.
+ * <p>
+ * The calling thread waits for all workers. On the first failure, or when the timeout elapses, it stops the workers
+ * from claiming more indices, interrupts the running ones and waits until every one of them has returned before it
+ * throws, so no work outlives the call. A mapper that ignores interrupts therefore delays the exception until its
+ * current call completes.
+ */
+@NoArgsConstructor(access = PRIVATE)
+class ConcurrentListMapper {
+
+    @SuppressWarnings("unchecked")
+    static <T, R> Object[] map(Object[] elements, Function<T, R> mapper, int maxConcurrency, Duration timeout, Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+
+        var results = new Object[elements.length];
+        if (elements.length == 0) {
+            return results;
+        }
+
+        var workers = Math.min(maxConcurrency, elements.length);
+        var next = new AtomicInteger();
+        var running = new AtomicInteger(workers);
+        var completion = new CompletableFuture<Void>();
+        Runnable work = () -> {
+            try {
+                for (int i = next.getAndIncrement(); i < elements.length && !completion.isDone(); i = next.getAndIncrement()) {
+                    results[i] = mapper.apply((T) elements[i]);
+                }
+                if (running.decrementAndGet() == 0) {
+                    completion.complete(null);
+                }
+            } catch (Throwable e) {
+                completion.completeExceptionally(e);
+            }
+        };
+
+        var finished = new CountDownLatch(workers);
+        List<Worker> started = new ArrayList<>(workers);
+        var completed = false;
+        try {
+            for (int i = 0; i < workers; i++) {
+                var worker = new Worker(work, finished);
+                started.add(worker);
+                executor.execute(worker);
+            }
+            completion.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            completed = true;
+            return results;
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CompletionException(new TimeoutException("Not completed within " + timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for results", e);
+        } finally {
+            if (!completed) {
+                completion.cancel(false);
+                started.forEach(Worker::cancel);
+                for (int i = started.size(); i < workers; i++) {
+                    finished.countDown();
+                }
+                awaitUninterruptibly(finished);
+            }
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        var interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException exception ? exception : new CompletionException(cause);
+    }
+
+    /**
+     * Runs the work unless it is cancelled first, and counts down {@code finished} exactly once either way.
+     * Cancelling a running worker interrupts its thread; the interrupt is cleared again once the work has stopped, so
+     * it does not leak into the next task of a pooled thread.
+     */
+    private static final class Worker implements Runnable {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final Runnable work;
+        private final CountDownLatch finished;
+        private int state = NEW;
+        private boolean cancelled;
+        private Thread runner;
+
+        private Worker(Runnable work, CountDownLatch finished) {
+            this.work = work;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (state != NEW) {
+                    return;
+                }
+                state = RUNNING;
+                runner = Thread.currentThread();
+            }
+            try {
+                work.run();
+            } finally {
+                synchronized (this) {
+                    state = DONE;
+                    runner = null;
+                    if (cancelled) {
+                        Thread.interrupted();
+                    }
+                }
+                finished.countDown();
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (state == NEW) {
+                state = DONE;
+                finished.countDown();
+            } else if (state == RUNNING) {
+                runner.interrupt();
+            }
+        }
+    }
+}
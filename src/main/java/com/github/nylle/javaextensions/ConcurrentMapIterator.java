@@ -0,0 +1,155 @@
+package com.github.nylle.javaextensions;
+
+import com.github.nylle.javaextensions.StreamExtensions.ErrorMode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Applies a mapper to the elements of a source iterator on an {@link Executor} with at most {@code maxConcurrency}
+ * calls in flight, and returns the results in the order of the source.
+ * <p>
+ * The source is read on the consuming thread, only as far as needed to keep {@code maxConcurrency} calls in flight.
+ * The calls in flight form the reorder buffer: results that complete early wait in their call until all results
+ * before them have been returned.
+ */
+class ConcurrentMapIterator<T, R> implements Iterator<R>, AutoCloseable {
+    private static final Object NULL = new Object();
+
+    private final Iterator<T> source;
+    private final Function<T, R> mapper;
+    private final int maxConcurrency;
+    private final Executor executor;
+    private final ErrorMode errorMode;
+    private final Queue<Call> inFlight = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final List<Throwable> errors = new ArrayList<>();
+    private int inFlightCount;
+    private Object next;
+
+    ConcurrentMapIterator(Iterator<T> source, Function<T, R> mapper, int maxConcurrency, Executor executor, ErrorMode errorMode) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+        this.errorMode = errorMode;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            fill();
+
+            var head = inFlight.peek();
+            if (head == null) {
+                return finish();
+            }
+
+            try {
+                var result = head.get();
+                next = result == null ? NULL : result;
+            } catch (ExecutionException e) {
+                if (errorMode == ErrorMode.FAIL_FAST) {
+                    throw fail(e.getCause());
+                }
+                errors.add(e.getCause());
+            } catch (CancellationException e) {
+                if (failure.get() == null) {
+                    throw e;
+                }
+                throw fail(failure.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("Interrupted while waiting for the next result", e);
+            }
+
+            inFlight.poll();
+            inFlightCount--;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var result = next;
+        next = null;
+        return result == NULL ? null : (R) result;
+    }
+
+    /**
+     * Cancels all calls in flight, interrupting those that are running.
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(call -> call.cancel(true));
+    }
+
+    private void fill() {
+        while (inFlightCount < maxConcurrency && failure.get() == null && source.hasNext()) {
+            var call = new Call(source.next());
+            inFlight.add(call);
+            inFlightCount++;
+            executor.execute(call);
+        }
+    }
+
+    private boolean finish() {
+        if (errors.isEmpty()) {
+            return false;
+        }
+
+        var first = errors.get(0);
+        errors.subList(1, errors.size()).forEach(first::addSuppressed);
+        errors.clear();
+        throw rethrow(first);
+    }
+
+    private RuntimeException fail(Throwable cause) {
+        failure.compareAndSet(null, cause);
+        close();
+        return rethrow(failure.get());
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException exception ? exception : new CompletionException(cause);
+    }
+
+    private class Call extends FutureTask<R> {
+
+        private Call(T element) {
+            super(() -> mapper.apply(element));
+        }
+
+        @Override
+        protected void setException(Throwable cause) {
+            super.setException(cause);
+            if (errorMode == ErrorMode.FAIL_FAST && failure.compareAndSet(null, cause)) {
+                close();
+            }
+        }
+    }
+}
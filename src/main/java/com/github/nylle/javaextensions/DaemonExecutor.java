@@ -0,0 +1,30 @@
+package com.github.nylle.javaextensions;
+
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Provides the executor used by concurrent operations if the caller does not supply one.
+ * <p>
+ * Threads are created on demand, reused while there is work and discarded after a minute of idling. They are daemon
+ * threads, so pending work never keeps the JVM alive.
+ */
+@NoArgsConstructor(access = PRIVATE)
+class DaemonExecutor {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService SHARED = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "java-extensions-worker-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static Executor shared() {
+        return SHARED;
+    }
+}
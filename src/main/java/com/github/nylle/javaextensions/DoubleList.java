@@ -0,0 +1,401 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.RandomAccess;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A growable list of {@code double} values backed by a {@code double[]}, so elements are neither boxed when stored nor when
+ * read.
+ * <p>
+ * Besides {@link #add(double)} and {@link #set(int, double)}, which modify this list, it mirrors the operations of
+ * {@link ListExtensions}, {@link StreamExtensions#partition(Stream, int, int)} and
+ * {@link StreamExtensions#zip(DoubleStream, DoubleStream, DoubleBinaryOperator)} with primitive functional interfaces. These
+ * operations return new lists and leave this list unchanged. {@link #stream()} streams the backing array without
+ * copying it, and {@link #asList()} adapts this list to {@link List} where boxing is acceptable.
+ */
+public final class DoubleList {
+    private static final double[] EMPTY = new double[0];
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public DoubleList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty list that can hold {@code initialCapacity} elements before it has to grow.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = new double[initialCapacity];
+    }
+
+    private DoubleList(double[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a list containing a copy of {@code elements}.
+     *
+     * @param elements the elements of the list
+     * @return a new list containing {@code elements}
+     */
+    public static DoubleList of(double... elements) {
+        return new DoubleList(elements.clone(), elements.length);
+    }
+
+    /**
+     * Creates a list containing the elements of {@code stream} in encounter order.
+     *
+     * @param stream the stream to collect
+     * @return a new list containing the elements of {@code stream}
+     */
+    public static DoubleList copyOf(DoubleStream stream) {
+        var elements = stream.toArray();
+        return new DoubleList(elements, elements.length);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this list contains no elements.
+     *
+     * @return {@code true} if this list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @param index the index of the element
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double get(int index) {
+        return elements[checkIndex(index)];
+    }
+
+    /**
+     * Finds the element at {@code index} like {@link ListExtensions#find(List, int)}.
+     *
+     * @param index the index to be found
+     * @return the value at {@code index} or empty if the index does not exist
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public OptionalDouble find(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException(Integer.toString(index));
+        }
+        return index < size ? OptionalDouble.of(elements[index]) : OptionalDouble.empty();
+    }
+
+    /**
+     * Appends {@code value} to the end of this list.
+     *
+     * @param value the value to add
+     */
+    public void add(double value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Appends all elements of {@code other} to the end of this list.
+     *
+     * @param other the list whose elements to add
+     */
+    public void addAll(DoubleList other) {
+        var otherSize = other.size;
+        grow(Math.addExact(size, otherSize));
+        System.arraycopy(other.elements, 0, elements, size, otherSize);
+        size += otherSize;
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code value}.
+     *
+     * @param index the index of the element to replace
+     * @param value the value to store
+     * @return the element previously at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double set(int index, double value) {
+        var previous = elements[checkIndex(index)];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Creates a new list containing all elements of this list and {@code lists}, like
+     * {@link ListExtensions#concat(List, List[])}.
+     *
+     * @param lists the lists to be concatenated to this list
+     * @return a new list containing all elements of this list and {@code lists}
+     */
+    public DoubleList concat(DoubleList... lists) {
+        var total = size;
+        for (var other : lists) {
+            total = Math.addExact(total, other.size);
+        }
+
+        var result = Arrays.copyOf(elements, total);
+        var offset = size;
+        for (var other : lists) {
+            System.arraycopy(other.elements, 0, result, offset, other.size);
+            offset += other.size;
+        }
+        return new DoubleList(result, total);
+    }
+
+    /**
+     * Creates a new list with {@code size} containing all elements of this list padded with {@code value}, like
+     * {@link ListExtensions#pad(List, int, Object)}.
+     * <p>
+     * If this list has the same or greater size than {@code size}, the result is a copy of this list.
+     *
+     * @param size the size to pad to
+     * @param value the value to use for additional elements
+     * @return a new list with {@code size} or greater
+     */
+    public DoubleList pad(int size, double value) {
+        if (this.size >= size) {
+            return new DoubleList(Arrays.copyOf(elements, this.size), this.size);
+        }
+
+        var result = Arrays.copyOf(elements, size);
+        Arrays.fill(result, this.size, size, value);
+        return new DoubleList(result, size);
+    }
+
+    /**
+     * Creates a new list containing all elements of this list with {@code value} appended, like
+     * {@link ListExtensions#append(List, Object)}. Use {@link #add(double)} to append to this list instead.
+     *
+     * @param value the value to append
+     * @return a new list containing all elements of this list and {@code value}
+     */
+    public DoubleList append(double value) {
+        var result = Arrays.copyOf(elements, size + 1);
+        result[size] = value;
+        return new DoubleList(result, size + 1);
+    }
+
+    /**
+     * Applies {@code mapper} to each element in this list.
+     *
+     * @param mapper the mapper to apply to each element
+     * @return a new list with the same size as this list containing the mapping results
+     */
+    public DoubleList map(DoubleUnaryOperator mapper) {
+        var result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = mapper.applyAsDouble(elements[i]);
+        }
+        return new DoubleList(result, size);
+    }
+
+    /**
+     * Applies {@code mapper} to each element in this list, boxing the results.
+     *
+     * @param mapper the mapper to apply to each element
+     * @return an immutable list with the same size as this list containing the mapping results
+     * @param <R> the type of elements in the returned {@link List}
+     */
+    public <R> List<R> mapToObj(DoubleFunction<R> mapper) {
+        var result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = mapper.apply(elements[i]);
+        }
+        @SuppressWarnings("unchecked")
+        var list = (List<R>) Collections.unmodifiableList(Arrays.asList(result));
+        return list;
+    }
+
+    /**
+     * Returns the elements of this list that match {@code predicate}.
+     *
+     * @param predicate the predicate to apply to each element
+     * @return a new list containing the matching elements
+     */
+    public DoubleList filter(DoublePredicate predicate) {
+        var result = new double[size];
+        var count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(elements[i])) {
+                result[count++] = elements[i];
+            }
+        }
+        return new DoubleList(count < size ? Arrays.copyOf(result, count) : result, count);
+    }
+
+    /**
+     * Applies {@code op} to the pair of nth elements in this list and {@code other}, like
+     * {@link StreamExtensions#zip(DoubleStream, DoubleStream, DoubleBinaryOperator)}.
+     *
+     * @param other the list to zip with this list
+     * @param op the operator to apply to the pair of elements from both lists
+     * @return a new list with the size of the shorter list containing the results
+     */
+    public DoubleList zip(DoubleList other, DoubleBinaryOperator op) {
+        var length = Math.min(size, other.size);
+        var result = new double[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = op.applyAsDouble(elements[i], other.elements[i]);
+        }
+        return new DoubleList(result, length);
+    }
+
+    /**
+     * Partitions this list into lists with {@code size} at offsets {@code step} apart, like
+     * {@link StreamExtensions#partition(Stream, int, int)}. Elements that do not make a complete partition are dropped.
+     *
+     * @param size the size of each partition
+     * @param step the number of elements between the start of each partition
+     * @return a sized stream of new lists
+     * @throws IllegalArgumentException if {@code size} or {@code step} is not positive
+     */
+    public Stream<DoubleList> partition(int size, int step) {
+        return partition(size, step, null);
+    }
+
+    /**
+     * Partitions this list into lists with {@code size} at offsets {@code step} apart, padding with {@code pad} as
+     * necessary to complete the last partition, like {@link StreamExtensions#partition(Stream, int, int, List)}.
+     * <p>
+     * The returned stream knows the number of partitions and copies each partition from the backing array when it is
+     * consumed, so it can be processed in parallel.
+     *
+     * @param size the size of each partition
+     * @param step the number of elements between the start of each partition
+     * @param pad the elements to complete the last partition with, or {@code null} to drop it
+     * @return a sized stream of new lists
+     * @throws IllegalArgumentException if {@code size} or {@code step} is not positive
+     */
+    public Stream<DoubleList> partition(int size, int step, DoubleList pad) {
+        if (size <= 0 || step <= 0) {
+            throw new IllegalArgumentException("size and step must be positive: " + size + ", " + step);
+        }
+
+        var count = (int) PartitionSpliterator.count(this.size, size, step, pad != null);
+        return IntStream.range(0, count).mapToObj(i -> {
+            var from = (int) Math.min((long) i * step, this.size);
+            var length = Math.min(size, this.size - from);
+            var padding = length < size ? Math.min(size - length, pad.size) : 0;
+            var result = new double[length + padding];
+            System.arraycopy(elements, from, result, 0, length);
+            if (padding > 0) {
+                System.arraycopy(pad.elements, 0, result, length, padding);
+            }
+            return new DoubleList(result, result.length);
+        });
+    }
+
+    /**
+     * Returns a sequential stream of the elements of this list, which reads the backing array without copying it.
+     * This list must not be modified while the stream is in use.
+     *
+     * @return a sized stream of the elements of this list
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns a copy of the elements of this list.
+     *
+     * @return a new array containing the elements of this list
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a read-only {@link List} view of this list that boxes elements on access.
+     *
+     * @return a read-only view of this list
+     */
+    public List<Double> asList() {
+        return new Boxed();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DoubleList other && Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > elements.length) {
+            var capacity = Math.max(minCapacity, Math.min(elements.length + (elements.length >> 1) + 1, Integer.MAX_VALUE - 8));
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    private class Boxed extends AbstractList<Double> implements RandomAccess {
+
+        @Override
+        public Double get(int index) {
+            return DoubleList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
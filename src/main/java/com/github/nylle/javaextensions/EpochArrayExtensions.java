@@ -0,0 +1,309 @@
+package com.github.nylle.javaextensions;
+
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public class EpochArrayExtensions {
+
+    private static final int BATCH_SIZE = 4096;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Formats each epoch value in {@code epochs} using the provided pattern for the provided {@link ZoneId}.
+     * <p>
+     * No intermediate {@link Instant} is created per element.
+     *
+     * @param epochs the epoch values to format
+     * @param unit the unit of the epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @return a new array with same length as {@code epochs} containing the formatted dates and times
+     */
+    public static String[] format(long[] epochs, TimeUnit unit, String pattern, ZoneId zoneId) {
+        var result = new String[epochs.length];
+        formatRange(epochs, unit, CachedInstantFormatter.of(pattern, zoneId), result, 0, epochs.length);
+        return result;
+    }
+
+    /**
+     * Formats each epoch value in {@code epochs} using the provided pattern for the provided {@link ZoneId}, splitting
+     * the work across {@code pool}.
+     *
+     * @param epochs the epoch values to format
+     * @param unit the unit of the epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @param pool the pool to run the batches in
+     * @return a new array with same length as {@code epochs} containing the formatted dates and times
+     */
+    public static String[] format(long[] epochs, TimeUnit unit, String pattern, ZoneId zoneId, ForkJoinPool pool) {
+        var result = new String[epochs.length];
+        pool.invoke(new FormatAction(epochs, unit, CachedInstantFormatter.of(pattern, zoneId), result, 0, epochs.length));
+        return result;
+    }
+
+    /**
+     * Formats each epoch value in {@code epochs} using the provided pattern for the provided {@link ZoneId} and appends
+     * the results separated by {@code delimiter} to {@code out}.
+     *
+     * @param epochs the epoch values to format
+     * @param unit the unit of the epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @param delimiter the delimiter to put between formatted values
+     * @param out the builder to append to
+     * @return {@code out}
+     */
+    public static StringBuilder formatTo(long[] epochs, TimeUnit unit, String pattern, ZoneId zoneId, CharSequence delimiter, StringBuilder out) {
+        return formatRange(epochs, unit, CachedInstantFormatter.of(pattern, zoneId), delimiter, out, 0, epochs.length);
+    }
+
+    /**
+     * Formats each epoch value in {@code epochs} using the provided pattern for the provided {@link ZoneId} and appends
+     * the results separated by {@code delimiter} to {@code out}, splitting the work across {@code pool}.
+     *
+     * @param epochs the epoch values to format
+     * @param unit the unit of the epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @param delimiter the delimiter to put between formatted values
+     * @param out the builder to append to
+     * @param pool the pool to run the batches in
+     * @return {@code out}
+     */
+    public static StringBuilder formatTo(long[] epochs, TimeUnit unit, String pattern, ZoneId zoneId, CharSequence delimiter, StringBuilder out, ForkJoinPool pool) {
+        var batches = new StringBuilder[(epochs.length + BATCH_SIZE - 1) / BATCH_SIZE];
+        pool.invoke(new FormatToAction(epochs, unit, CachedInstantFormatter.of(pattern, zoneId), delimiter, batches, 0, batches.length));
+        for (int i = 0; i < batches.length; i++) {
+            if (i > 0) {
+                out.append(delimiter);
+            }
+            out.append(batches[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Parses each text in {@code texts} using the provided pattern for the provided {@link ZoneId} into epoch values.
+     * <p>
+     * Values that cannot be represented in {@code unit} without loss are rounded towards negative infinity.
+     *
+     * @param texts the texts to parse
+     * @param unit the unit of the resulting epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId used if the text contains no offset
+     * @return a new array with same length as {@code texts} containing the epoch values
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public static long[] parse(String[] texts, TimeUnit unit, String pattern, ZoneId zoneId) {
+        var result = new long[texts.length];
+        parseRange(texts, unit, InstantExtensions.formatterCache().get(pattern, zoneId), result, 0, texts.length);
+        return result;
+    }
+
+    /**
+     * Parses each text in {@code texts} using the provided pattern for the provided {@link ZoneId} into epoch values,
+     * splitting the work across {@code pool}.
+     *
+     * @param texts the texts to parse
+     * @param unit the unit of the resulting epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId used if the text contains no offset
+     * @param pool the pool to run the batches in
+     * @return a new array with same length as {@code texts} containing the epoch values
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public static long[] parse(String[] texts, TimeUnit unit, String pattern, ZoneId zoneId, ForkJoinPool pool) {
+        var result = new long[texts.length];
+        pool.invoke(new ParseAction(texts, unit, InstantExtensions.formatterCache().get(pattern, zoneId), result, 0, texts.length));
+        return result;
+    }
+
+    /**
+     * Parses {@code text} consisting of values separated by {@code delimiter} using the provided pattern for the
+     * provided {@link ZoneId} into epoch values.
+     * <p>
+     * This is the inverse of {@link #formatTo(long[], TimeUnit, String, ZoneId, CharSequence, StringBuilder)}.
+     *
+     * @param text the delimited text to parse
+     * @param delimiter the delimiter between the values
+     * @param unit the unit of the resulting epoch values, e.g. {@link TimeUnit#MILLISECONDS}
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId used if the text contains no offset
+     * @return a new array containing the epoch values
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static long[] parse(CharSequence text, CharSequence delimiter, TimeUnit unit, String pattern, ZoneId zoneId) {
+        if (text.length() == 0) {
+            return new long[0];
+        }
+
+        var formatter = InstantExtensions.formatterCache().get(pattern, zoneId);
+        var result = new long[16];
+        var count = 0;
+        var position = new ParsePosition(0);
+        while (true) {
+            var parsed = formatter.parse(text, position);
+            if (count == result.length) {
+                var grown = new long[count * 2];
+                System.arraycopy(result, 0, grown, 0, count);
+                result = grown;
+            }
+            result[count++] = toEpoch(Instant.from(parsed), unit);
+
+            var index = position.getIndex();
+            if (index == text.length()) {
+                break;
+            }
+            if (!startsWith(text, delimiter, index)) {
+                throw new DateTimeParseException("Expected delimiter at index " + index, text, index);
+            }
+            position.setIndex(index + delimiter.length());
+        }
+
+        var trimmed = new long[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    private static void formatRange(long[] epochs, TimeUnit unit, CachedInstantFormatter formatter, String[] result, int from, int to) {
+        var builder = new StringBuilder(32);
+        for (int i = from; i < to; i++) {
+            builder.setLength(0);
+            result[i] = formatEpoch(epochs[i], unit, formatter, builder).toString();
+        }
+    }
+
+    private static StringBuilder formatRange(long[] epochs, TimeUnit unit, CachedInstantFormatter formatter, CharSequence delimiter, StringBuilder out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.append(delimiter);
+            }
+            formatEpoch(epochs[i], unit, formatter, out);
+        }
+        return out;
+    }
+
+    private static void parseRange(String[] texts, TimeUnit unit, DateTimeFormatter formatter, long[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = toEpoch(formatter.parse(texts[i], Instant::from), unit);
+        }
+    }
+
+    private static StringBuilder formatEpoch(long epoch, TimeUnit unit, CachedInstantFormatter formatter, StringBuilder out) {
+        var perSecond = unit.convert(1, SECONDS);
+        if (perSecond == 0) {
+            return formatter.formatTo(unit.toSeconds(epoch), 0, out);
+        }
+        return formatter.formatTo(Math.floorDiv(epoch, perSecond), (int) (Math.floorMod(epoch, perSecond) * NANOSECONDS.convert(1, unit)), out);
+    }
+
+    private static long toEpoch(Instant instant, TimeUnit unit) {
+        var perSecond = unit.convert(1, SECONDS);
+        if (perSecond == 0) {
+            return Math.floorDiv(instant.getEpochSecond(), SECONDS.convert(1, unit));
+        }
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), perSecond), instant.getNano() / NANOSECONDS.convert(1, unit));
+    }
+
+    private static boolean startsWith(CharSequence text, CharSequence prefix, int offset) {
+        if (text.length() - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @RequiredArgsConstructor
+    private static class FormatAction extends RecursiveAction {
+        private final long[] epochs;
+        private final TimeUnit unit;
+        private final CachedInstantFormatter formatter;
+        private final String[] result;
+        private final int from;
+        private final int to;
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                formatRange(epochs, unit, formatter.copy(), result, from, to);
+                return;
+            }
+            var middle = (from + to) >>> 1;
+            invokeAll(
+                    new FormatAction(epochs, unit, formatter, result, from, middle),
+                    new FormatAction(epochs, unit, formatter, result, middle, to));
+        }
+    }
+
+    /**
+     * Formats the batches {@code [fromBatch, toBatch)} of {@link #BATCH_SIZE} epochs each into their own builders, so
+     * that each formatted value is copied only once more, into the output.
+     */
+    @RequiredArgsConstructor
+    private static class FormatToAction extends RecursiveAction {
+        private final long[] epochs;
+        private final TimeUnit unit;
+        private final CachedInstantFormatter formatter;
+        private final CharSequence delimiter;
+        private final StringBuilder[] batches;
+        private final int fromBatch;
+        private final int toBatch;
+
+        @Override
+        protected void compute() {
+            if (toBatch - fromBatch <= 1) {
+                for (int batch = fromBatch; batch < toBatch; batch++) {
+                    var from = batch * BATCH_SIZE;
+                    var to = Math.min(from + BATCH_SIZE, epochs.length);
+                    batches[batch] = formatRange(epochs, unit, formatter.copy(), delimiter, new StringBuilder((to - from) * 32), from, to);
+                }
+                return;
+            }
+            var middle = (fromBatch + toBatch) >>> 1;
+            invokeAll(
+                    new FormatToAction(epochs, unit, formatter, delimiter, batches, fromBatch, middle),
+                    new FormatToAction(epochs, unit, formatter, delimiter, batches, middle, toBatch));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ParseAction extends RecursiveAction {
+        private final String[] texts;
+        private final TimeUnit unit;
+        private final DateTimeFormatter formatter;
+        private final long[] result;
+        private final int from;
+        private final int to;
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                parseRange(texts, unit, formatter, result, from, to);
+                return;
+            }
+            var middle = (from + to) >>> 1;
+            invokeAll(
+                    new ParseAction(texts, unit, formatter, result, from, middle),
+                    new ParseAction(texts, unit, formatter, result, middle, to));
+        }
+    }
+}
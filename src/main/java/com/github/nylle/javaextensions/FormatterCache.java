@@ -0,0 +1,155 @@
+package com.github.nylle.javaextensions;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of {@link DateTimeFormatter}s keyed by pattern and {@link ZoneId}.
+ * <p>
+ * Lookups of cached formatters are lock-free. When the cache grows beyond its maximum size, entries that have not
+ * been used since the last eviction sweep are evicted first (second-chance eviction).
+ */
+public class FormatterCache {
+
+    private final int maximumSize;
+    private final Map<Key, Entry> formatters = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new empty cache holding at most {@code maximumSize} formatters.
+     *
+     * @param maximumSize the maximum number of formatters to keep
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public FormatterCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the formatter for {@code pattern} and {@code zoneId}, creating and caching it if necessary.
+     *
+     * @param pattern the pattern as used by {@link DateTimeFormatter}
+     * @param zoneId the zoneId
+     * @return the formatter for {@code pattern} with {@code zoneId}
+     */
+    public DateTimeFormatter get(String pattern, ZoneId zoneId) {
+        var key = new Key(pattern, zoneId);
+        var entry = formatters.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.touch();
+            return entry.formatter;
+        }
+
+        var created = new Entry[1];
+        entry = formatters.computeIfAbsent(key, k -> created[0] = new Entry(DateTimeFormatter.ofPattern(k.pattern()).withZone(k.zoneId())));
+        if (created[0] == null) {
+            hits.increment();
+            entry.touch();
+        } else {
+            misses.increment();
+            evictIfNecessary();
+        }
+        return entry.formatter;
+    }
+
+    /**
+     * Creates and caches the formatters for all {@code patterns} with {@code zoneId} ahead of their first use.
+     * <p>
+     * Pre-warming does not count towards the hit or miss statistics.
+     *
+     * @param zoneId the zoneId
+     * @param patterns the patterns as used by {@link DateTimeFormatter}
+     */
+    public void prewarm(ZoneId zoneId, String... patterns) {
+        for (var pattern : patterns) {
+            formatters.computeIfAbsent(new Key(pattern, zoneId), k -> new Entry(DateTimeFormatter.ofPattern(k.pattern()).withZone(k.zoneId())));
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * Removes all formatters from the cache and resets its statistics.
+     */
+    public void clear() {
+        formatters.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the current statistics
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), formatters.size());
+    }
+
+    private void evictIfNecessary() {
+        if (formatters.size() <= maximumSize) {
+            return;
+        }
+
+        synchronized (this) {
+            var iterator = formatters.entrySet().iterator();
+            while (formatters.size() > maximumSize) {
+                if (!iterator.hasNext()) {
+                    iterator = formatters.entrySet().iterator();
+                }
+                var next = iterator.next();
+                if (next.getValue().referenced) {
+                    next.getValue().referenced = false;
+                } else if (formatters.remove(next.getKey(), next.getValue())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * The statistics of a {@link FormatterCache}.
+     *
+     * @param hits the number of lookups that found a cached formatter
+     * @param misses the number of lookups that had to create a formatter
+     * @param evictions the number of formatters evicted to keep the cache within its maximum size
+     * @param size the number of formatters currently cached
+     */
+    public record Statistics(long hits, long misses, long evictions, int size) {
+
+        /**
+         * Returns the ratio of hits to all lookups or 1.0 if there were no lookups.
+         *
+         * @return the hit rate between 0.0 and 1.0
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 1.0 : (double) hits / lookups;
+        }
+    }
+
+    private record Key(String pattern, ZoneId zoneId) { }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final DateTimeFormatter formatter;
+        private volatile boolean referenced;
+
+        private void touch() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.nylle.javaextensions;
+
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Applies a function to each element of a spliterator and its index. If the source is {@link Spliterator#SUBSIZED},
+ * splits carry over the index of their first element so that the indices stay exact in parallel.
+ */
+class IndexedSpliterator<T, R> implements Spliterator<R> {
+    private final Spliterator<T> source;
+    private final BiFunction<T, Long, R> f;
+    private long index;
+    private T current;
+    private final Consumer<T> setCurrent = value -> current = value;
+
+    IndexedSpliterator(Spliterator<T> source, long index, BiFunction<T, Long, R> f) {
+        this.source = source;
+        this.index = index;
+        this.f = f;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if (!source.tryAdvance(setCurrent)) {
+            return false;
+        }
+        action.accept(f.apply(current, index++));
+        return true;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (!source.hasCharacteristics(SUBSIZED)) {
+            return null;
+        }
+
+        var prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+
+        var split = new IndexedSpliterator<>(prefix, index, f);
+        index += prefix.getExactSizeIfKnown();
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+    }
+}
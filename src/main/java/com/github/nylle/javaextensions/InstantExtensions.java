@@ -2,17 +2,41 @@ package com.github.nylle.javaextensions;
 
 import lombok.NoArgsConstructor;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static lombok.AccessLevel.PRIVATE;
 
 @NoArgsConstructor(access = PRIVATE)
 public class InstantExtensions {
 
+    private static final FormatterCache FORMATTERS = new FormatterCache(256);
+
+    /**
+     * Returns the {@link FormatterCache} used by the {@code format} methods.
+     * <p>
+     * It can be used to pre-warm formatters for known patterns at startup or to inspect the cache statistics.
+     *
+     * @return the shared formatter cache
+     */
+    public static FormatterCache formatterCache() {
+        return FORMATTERS;
+    }
+
     /**
      * Formats the provided {@link Instant} using the provided pattern for the provided {@link ZoneId}.
+     * <p>
+     * The {@link DateTimeFormatter} for the pattern and zone is cached, see {@link #formatterCache()}.
      *
      * @param instant the instant to format
      * @param pattern the pattern as used by {@link DateTimeFormatter}
@@ -20,7 +44,7 @@ public class InstantExtensions {
      * @return the formatted date and time according to the pattern
      */
     public static String format(Instant instant, String pattern, ZoneId zoneId) {
-        return DateTimeFormatter.ofPattern(pattern).withZone(zoneId).format(instant);
+        return FORMATTERS.get(pattern, zoneId).format(instant);
     }
 
     /**
@@ -33,4 +57,82 @@ public class InstantExtensions {
     public static String format(Instant instant, String pattern) {
         return format(instant, pattern, ZoneId.systemDefault());
     }
+
+    /**
+     * Formats the provided {@link Instant} using the provided {@link CachedInstantFormatter} and appends the result to
+     * {@code out}.
+     * <p>
+     * For high-rate formatting of instants within the same second, this avoids any allocation.
+     *
+     * @param instant the instant to format
+     * @param formatter the formatter as created by {@link CachedInstantFormatter#of}
+     * @param out the builder to append to
+     * @return {@code out}
+     */
+    public static StringBuilder formatTo(Instant instant, CachedInstantFormatter formatter, StringBuilder out) {
+        return formatter.formatTo(instant, out);
+    }
+
+    /**
+     * Truncates the provided {@link Instant} to the start of the {@code unit} it falls into in the provided
+     * {@link ZoneId}, e.g. the start of the local hour, day or week.
+     * <p>
+     * This is equivalent to {@code instant.atZone(zoneId).truncatedTo(unit).toInstant()} (with weeks starting on
+     * Monday) but uses epoch arithmetic on cached offset transitions instead of {@link java.time.ZonedDateTime}.
+     *
+     * @param instant the instant to truncate
+     * @param unit the unit to truncate to, see {@link ZoneBuckets#truncate(long, ChronoUnit)}
+     * @param zoneId the zoneId
+     * @return the start of the bucket containing {@code instant}
+     * @throws IllegalArgumentException if {@code unit} is not supported
+     */
+    public static Instant truncate(Instant instant, ChronoUnit unit, ZoneId zoneId) {
+        return Instant.ofEpochSecond(ZoneBuckets.of(zoneId).truncate(instant.getEpochSecond(), unit));
+    }
+
+    /**
+     * Returns a {@link Collector} grouping {@link Instant}s by the start of the {@code unit} they fall into in the
+     * provided {@link ZoneId}.
+     *
+     * @param unit the unit to truncate to, see {@link ZoneBuckets#truncate(long, ChronoUnit)}
+     * @param zoneId the zoneId
+     * @return a collector producing a {@link SortedMap} from the start of each bucket to its instants
+     */
+    public static Collector<Instant, ?, SortedMap<Instant, List<Instant>>> groupingByBucket(ChronoUnit unit, ZoneId zoneId) {
+        return groupingByBucket(x -> x, unit, zoneId);
+    }
+
+    /**
+     * Returns a {@link Collector} grouping elements by the start of the {@code unit} their {@link Instant} falls into
+     * in the provided {@link ZoneId}.
+     *
+     * @param instantMapper the mapper to apply to each element to determine its instant
+     * @param unit the unit to truncate to, see {@link ZoneBuckets#truncate(long, ChronoUnit)}
+     * @param zoneId the zoneId
+     * @return a collector producing a {@link SortedMap} from the start of each bucket to its elements
+     * @param <T> the type of the elements
+     */
+    public static <T> Collector<T, ?, SortedMap<Instant, List<T>>> groupingByBucket(Function<T, Instant> instantMapper, ChronoUnit unit, ZoneId zoneId) {
+        var buckets = ZoneBuckets.of(zoneId);
+        return Collectors.groupingBy(
+                x -> Instant.ofEpochSecond(buckets.truncate(instantMapper.apply(x).getEpochSecond(), unit)),
+                TreeMap::new,
+                Collectors.toList());
+    }
+
+    /**
+     * Starts a {@link CoarseClock} that refreshes the current {@link Instant} and its formatted string every
+     * {@code resolution} on a background daemon thread.
+     * <p>
+     * The clock should be created once and shared; it must be closed to stop its thread.
+     *
+     * @param resolution the interval between refreshes
+     * @param pattern the pattern as used by {@link DateTimeFormatter} for {@link CoarseClock#formatted()}
+     * @param zoneId the zoneId for {@link CoarseClock#formatted()}
+     * @return a new running clock
+     * @throws IllegalArgumentException if {@code resolution} is not positive
+     */
+    public static CoarseClock coarseClock(Duration resolution, String pattern, ZoneId zoneId) {
+        return new CoarseClock(Clock.systemUTC(), resolution, CachedInstantFormatter.of(pattern, zoneId));
+    }
 }
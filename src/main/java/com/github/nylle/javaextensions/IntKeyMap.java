@@ -0,0 +1,332 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A read-only map from {@code int} keys to non-null values that stores keys unboxed.
+ * <p>
+ * Keys and values are held in two parallel arrays whose length is a power of two, and collisions are resolved by
+ * linear probing, so an entry costs one array slot per key and value instead of a {@link Integer} and a node object.
+ * A slot is empty if its value is {@code null}. The table is grown whenever the number of entries exceeds its length
+ * times the load factor; lower load factors shorten probe sequences at the expense of memory.
+ * <p>
+ * {@link #get(int)} and {@link #containsKey(int)} do not box, while {@link #asMap()} adapts this map to the
+ * {@link Map} interface for compatibility.
+ *
+ * @param <V> the type of mapped values
+ */
+public final class IntKeyMap<V> {
+
+    /**
+     * The load factor used unless another one is specified.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int threshold;
+
+    IntKeyMap(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSize(expectedSize, loadFactor));
+    }
+
+    static <T, V> IntKeyMap<V> collect(List<T> list, ToIntFunction<T> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, float loadFactor) {
+        // merged lists may have far fewer keys than elements, so grow from a small table instead
+        var result = new IntKeyMap<V>(mergeFunction == null ? list.size() : 0, loadFactor);
+        for (var element : list) {
+            var key = keyMapper.applyAsInt(element);
+            var value = Objects.requireNonNull(valueMapper.apply(element));
+            if (mergeFunction == null) {
+                var existing = result.putIfAbsent(key, value);
+                if (existing != null) {
+                    throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, existing, value));
+                }
+            } else {
+                result.merge(key, value, mergeFunction);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this map contains no entries.
+     *
+     * @return {@code true} if this map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether this map contains {@code key}.
+     *
+     * @param key the key to look up
+     * @return {@code true} if {@code key} is mapped to a value
+     */
+    public boolean containsKey(int key) {
+        return values[indexOf(key)] != null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}.
+     *
+     * @param key the key to look up
+     * @return the value of {@code key}, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     *
+     * @param key the key to look up
+     * @param defaultValue the value to return if {@code key} is absent
+     * @return the value of {@code key}, or {@code defaultValue}
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        var value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the keys of this map in table order.
+     *
+     * @return a new array containing all keys
+     */
+    public int[] keys() {
+        var result = new int[size];
+        var count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs {@code action} for each entry of this map in table order.
+     *
+     * @param action the action to be performed for each entry
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only {@link Map} view of this map. Its methods box keys and should be avoided on hot paths.
+     *
+     * @return a read-only view of this map
+     */
+    public Map<Integer, V> asMap() {
+        return new AbstractMap<>() {
+            @Override
+            public V get(Object key) {
+                return key instanceof Integer k ? IntKeyMap.this.get(k) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof Integer k && IntKeyMap.this.containsKey(k);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Set<Entry<Integer, V>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<Integer, V>> iterator() {
+                        return new Entries();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    V putIfAbsent(int key, V value) {
+        var index = indexOf(key);
+        @SuppressWarnings("unchecked")
+        var existing = (V) values[index];
+        if (existing == null) {
+            insert(index, key, value);
+        }
+        return existing;
+    }
+
+    @SuppressWarnings("unchecked")
+    V merge(int key, V value, BinaryOperator<V> mergeFunction) {
+        var index = indexOf(key);
+        if (values[index] == null) {
+            insert(index, key, value);
+            return value;
+        }
+
+        var merged = mergeFunction.apply((V) values[index], value);
+        if (merged == null) {
+            remove(index);
+        } else {
+            values[index] = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot ending its probe sequence.
+     */
+    private int indexOf(int key) {
+        var mask = values.length - 1;
+        var index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insert(int index, int key, V value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(values.length * 2);
+        }
+    }
+
+    /**
+     * Empties {@code index} and shifts later entries of the same cluster back, so that no probe sequence is broken.
+     */
+    private void remove(int index) {
+        var mask = values.length - 1;
+        var gap = index;
+        var next = (index + 1) & mask;
+        while (values[next] != null) {
+            var home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int tableSize) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(tableSize);
+        var mask = tableSize - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                var index = hash(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        threshold = (int) Math.min(tableSize * (double) loadFactor, tableSize - 1);
+    }
+
+    private static int tableSize(int expectedSize, float loadFactor) {
+        var minimum = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (minimum > 1 << 30) {
+            throw new IllegalArgumentException("Too many entries for load factor " + loadFactor + ": " + expectedSize);
+        }
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    private static int hash(int key) {
+        var h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An action performed for an entry of an {@link IntKeyMap} without boxing its key.
+     *
+     * @param <V> the type of mapped values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(int key, V value);
+    }
+
+    private class Entries implements Iterator<Map.Entry<Integer, V>> {
+        private int index = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<Integer, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var entry = new AbstractMap.SimpleImmutableEntry<>(keys[index], (V) values[index]);
+            index = advance(index + 1);
+            return entry;
+        }
+
+        private int advance(int from) {
+            while (from < values.length && values[from] == null) {
+                from++;
+            }
+            return from;
+        }
+    }
+}
@@ -2,20 +2,31 @@ package com.github.nylle.javaextensions;
 
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static lombok.AccessLevel.PRIVATE;
 
 @NoArgsConstructor(access = PRIVATE)
 public class ListExtensions {
 
+    private static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
     /**
      * Creates a new {@link List} containing all elements of {@code list} and {@code lists}.
      *
@@ -26,13 +37,48 @@ public class ListExtensions {
      */
     @SafeVarargs
     public static <T> List<T> concat(List<T> list, List<T>... lists) {
-        return Stream.concat(list.stream(), Arrays.stream(lists).flatMap(x -> x.stream())).toList();
+        var size = list.size();
+        for (var other : lists) {
+            size = Math.addExact(size, other.size());
+        }
+
+        var result = Arrays.copyOf(list.toArray(), size);
+        var offset = list.size();
+        for (var other : lists) {
+            var elements = other.toArray();
+            System.arraycopy(elements, 0, result, offset, elements.length);
+            offset += elements.length;
+        }
+        return immutable(result);
+    }
+
+    /**
+     * Creates an immutable view of the concatenation of {@code list} and {@code lists} without copying any elements.
+     * <p>
+     * Creating the view is independent of the number of elements, indexed access takes O(log k) for k non-empty
+     * lists. Concatenating views flattens their lists instead of nesting them, and appending to the most recent view
+     * in a loop takes amortized constant time per call. The view is only {@link RandomAccess} if all provided lists
+     * are. The provided lists must not be structurally modified while the view is in use.
+     *
+     * @param list the list to be concatenated
+     * @param lists the lists to be concatenated to {@code list}
+     * @return a view containing all elements of {@code list} and {@code lists}
+     * @param <T> the type of elements in {@code list} and {@code lists}
+     */
+    @SafeVarargs
+    public static <T> List<T> concatView(List<T> list, List<T>... lists) {
+        var all = new ArrayList<List<T>>(lists.length + 1);
+        all.add(list);
+        Collections.addAll(all, lists);
+        return CompositeList.of(all);
     }
 
     /**
      * Finds the element at {@code index} of {@code list}.
      * <p>
      * If the index does not exist, the result is {@code null}.
+     * <p>
+     * For {@link RandomAccess} lists, this is a constant-time operation.
      *
      * @param list the list to be searched
      * @param index the index to be found
@@ -40,6 +86,12 @@ public class ListExtensions {
      * @param <T> the type of elements in {@code list}
      */
     public static <T> T find(List<T> list, int index) {
+        if (list instanceof RandomAccess) {
+            if (index < 0) {
+                throw new IllegalArgumentException(Integer.toString(index));
+            }
+            return index < list.size() ? list.get(index) : null;
+        }
         return list.stream().skip(index).findFirst().orElse(null);
     }
 
@@ -55,13 +107,37 @@ public class ListExtensions {
      * @param <T> the type of elements in {@code list}
      */
     public static <T> List<T> pad(List<T> list, int size, T value) {
-        return list.size() < size
-                ? Stream.concat(list.stream(), Stream.iterate(0, i -> i + 1).limit((long)size - list.size()).map(x -> value)).toList()
-                : list;
+        if (list.size() >= size) {
+            return list;
+        }
+
+        var result = Arrays.copyOf(list.toArray(), size);
+        Arrays.fill(result, list.size(), size, value);
+        return immutable(result);
+    }
+
+    /**
+     * Creates an immutable view with {@code size} containing all elements of {@code list} padded with {@code value}
+     * without copying any elements.
+     * <p>
+     * If the provided list has the same or greater size than {@code size}, it will be returned as is.
+     * The view is only {@link RandomAccess} if the provided list is. The provided list must not be structurally
+     * modified while the view is in use.
+     *
+     * @param list the list to be padded
+     * @param size  the size to pad to
+     * @param value the value to use for additional elements
+     * @return a view with {@code size} or greater
+     * @param <T> the type of elements in {@code list}
+     */
+    public static <T> List<T> padView(List<T> list, int size, T value) {
+        return list.size() < size ? PaddedList.of(list, size, value) : list;
     }
 
     /**
      * Creates a new {@link List} containing all elements of {@code list} with {@code element} appended.
+     * <p>
+     * If {@code list} is a {@link PersistentVector}, the result shares its structure instead of copying it.
      *
      * @param list the list to append {@code element} to
      * @param element the element to add to {@code list}
@@ -69,7 +145,27 @@ public class ListExtensions {
      * @param <T> the type of elements in {@code list}
      */
     public static <T> List<T> append(List<T> list, T element) {
-        return Stream.concat(list.stream(), Stream.of(element)).toList();
+        if (list instanceof PersistentVector<T> vector) {
+            return vector.append(element);
+        }
+
+        var result = Arrays.copyOf(list.toArray(), list.size() + 1);
+        result[list.size()] = element;
+        return immutable(result);
+    }
+
+    /**
+     * Creates an immutable view of {@code list} with {@code element} appended without copying any elements.
+     * <p>
+     * See {@link #concatView(List, List[])} for the characteristics of the view.
+     *
+     * @param list the list to append {@code element} to
+     * @param element the element to add to {@code list}
+     * @return a view containing all elements of {@code list} and {@code element}
+     * @param <T> the type of elements in {@code list}
+     */
+    public static <T> List<T> appendView(List<T> list, T element) {
+        return CompositeList.of(List.of(list, Collections.singletonList(element)));
     }
 
     /**
@@ -82,9 +178,118 @@ public class ListExtensions {
      * @param <R> the type of elements in returned {@link List}
      */
     public static <T, R> List<R> map(List<T> list, Function<T, R> mapper) {
+        return map(list, mapper, Parallelism.sequential());
+    }
+
+    /**
+     * Applies {@code mapper} to each element in {@code list}, in parallel if {@code parallelism} applies to the size of
+     * {@code list}.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @param parallelism whether to map in parallel
+     * @return a new {@link List} with same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     * @param <R> the type of elements in returned {@link List}
+     */
+    public static <T, R> List<R> map(List<T> list, Function<T, R> mapper, Parallelism parallelism) {
+        if (parallelism.appliesTo(list.size())) {
+            return immutable(ParallelListOps.map(list, mapper, parallelism.pool()));
+        }
+        if (list instanceof RandomAccess) {
+            var result = new Object[list.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mapper.apply(list.get(i));
+            }
+            return immutable(result);
+        }
         return list.stream().map(mapper).toList();
     }
 
+    /**
+     * Creates an immutable view of {@code list} that applies {@code mapper} to an element only when it is accessed.
+     * <p>
+     * The mapper runs again on every access. Use {@link #mapView(List, Function, Memoization)} to memoize results.
+     *
+     * @param list the list to map
+     * @param mapper the mapper to apply to accessed elements
+     * @return a view with same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     * @param <R> the type of elements in returned {@link List}
+     */
+    public static <T, R> List<R> mapView(List<T> list, Function<T, R> mapper) {
+        return mapView(list, mapper, Memoization.NONE);
+    }
+
+    /**
+     * Creates an immutable view of {@code list} that applies {@code mapper} to an element only when it is accessed,
+     * memoizing the result according to {@code memoization}.
+     * <p>
+     * {@code size()} and {@code get()} take constant time and the view's spliterator splits evenly, so it can be
+     * passed to parallel streams. If {@code list} is not {@link RandomAccess}, its elements are copied into an array
+     * first. The provided list must not be structurally modified while the view is in use.
+     *
+     * @param list the list to map
+     * @param mapper the mapper to apply to accessed elements
+     * @param memoization whether and how to remember mapping results
+     * @return a view with same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     * @param <R> the type of elements in returned {@link List}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> mapView(List<T> list, Function<T, R> mapper, Memoization memoization) {
+        var source = list instanceof RandomAccess ? list : (List<T>) Arrays.asList(list.toArray());
+        return new MappedList<>(source, mapper, memoization);
+    }
+
+    /**
+     * Applies {@code mapper} to each element in {@code list}, collecting the results unboxed.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @return a new {@link IntList} with the same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     */
+    public static <T> IntList mapToInt(List<T> list, ToIntFunction<T> mapper) {
+        var result = new IntList(list.size());
+        for (var element : list) {
+            result.add(mapper.applyAsInt(element));
+        }
+        return result;
+    }
+
+    /**
+     * Applies {@code mapper} to each element in {@code list}, collecting the results unboxed.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @return a new {@link LongList} with the same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     */
+    public static <T> LongList mapToLong(List<T> list, ToLongFunction<T> mapper) {
+        var result = new LongList(list.size());
+        for (var element : list) {
+            result.add(mapper.applyAsLong(element));
+        }
+        return result;
+    }
+
+    /**
+     * Applies {@code mapper} to each element in {@code list}, collecting the results unboxed.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @return a new {@link DoubleList} with the same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     */
+    public static <T> DoubleList mapToDouble(List<T> list, ToDoubleFunction<T> mapper) {
+        var result = new DoubleList(list.size());
+        for (var element : list) {
+            result.add(mapper.applyAsDouble(element));
+        }
+        return result;
+    }
+
     /**
      * Filters {@code list} by applying {@code predicate} to each element.
      *
@@ -94,9 +299,125 @@ public class ListExtensions {
      * @return a new {@link List} filtered list
      */
     public static <T> List<T> filter(List<T> list, Predicate<T> predicate) {
+        return filter(list, predicate, Parallelism.sequential());
+    }
+
+    /**
+     * Filters {@code list} by applying {@code predicate} to each element, in parallel if {@code parallelism} applies to
+     * the size of {@code list}.
+     *
+     * @param <T>         the type of elements in {@code list}
+     * @param list        the list to iterate over
+     * @param predicate   the predicate by which to filter
+     * @param parallelism whether to filter in parallel
+     * @return a new {@link List} filtered list
+     */
+    public static <T> List<T> filter(List<T> list, Predicate<T> predicate, Parallelism parallelism) {
+        if (parallelism.appliesTo(list.size())) {
+            return immutable(ParallelListOps.filter(list, predicate, parallelism.pool()));
+        }
+        if (list instanceof RandomAccess) {
+            var result = new Object[list.size()];
+            var count = 0;
+            for (int i = 0; i < result.length; i++) {
+                var element = list.get(i);
+                if (predicate.test(element)) {
+                    result[count++] = element;
+                }
+            }
+            return immutable(count == result.length ? result : Arrays.copyOf(result, count));
+        }
         return list.stream().filter(predicate).toList();
     }
 
+    /**
+     * Applies {@code mapper} to each element in {@code list} with up to {@code maxConcurrency} calls running at the same
+     * time on a shared pool of daemon threads.
+     * <p>
+     * This is meant for mappers that mostly wait, e.g. on remote lookups. The first failure interrupts all running calls
+     * and is rethrown once no more calls are started.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @return a new {@link List} with same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     * @param <R> the type of elements in returned {@link List}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, R> List<R> mapConcurrent(List<T> list, Function<T, R> mapper, int maxConcurrency) {
+        return mapConcurrent(list, mapper, maxConcurrency, FOREVER, DaemonExecutor.shared());
+    }
+
+    /**
+     * Applies {@code mapper} to each element in {@code list} with up to {@code maxConcurrency} calls running at the same
+     * time on {@code executor}.
+     * <p>
+     * The first failure, or {@code timeout} elapsing, interrupts all running calls and is rethrown once no more calls
+     * are started; a timeout is thrown as a {@link java.util.concurrent.CompletionException} caused by a
+     * {@link java.util.concurrent.TimeoutException}. No call outlives this method.
+     *
+     * @param list the list to iterate over
+     * @param mapper the mapper to apply to each element
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @param timeout the maximum time to wait for all results
+     * @param executor the executor running the calls
+     * @return a new {@link List} with same size as {@code list} containing the mapping results
+     * @param <T> the type of elements in {@code list}
+     * @param <R> the type of elements in returned {@link List}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, R> List<R> mapConcurrent(List<T> list, Function<T, R> mapper, int maxConcurrency, Duration timeout, Executor executor) {
+        return immutable(ConcurrentListMapper.map(list.toArray(), mapper, maxConcurrency, timeout, executor));
+    }
+
+    /**
+     * Filters {@code list} by applying {@code predicate} to each element with up to {@code maxConcurrency} calls running
+     * at the same time on a shared pool of daemon threads.
+     * <p>
+     * This is meant for predicates that mostly wait, e.g. on remote lookups. The first failure interrupts all running
+     * calls and is rethrown once no more calls are started.
+     *
+     * @param <T>            the type of elements in {@code list}
+     * @param list           the list to iterate over
+     * @param predicate      the predicate by which to filter
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @return a new {@link List} filtered list
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T> List<T> filterConcurrent(List<T> list, Predicate<T> predicate, int maxConcurrency) {
+        return filterConcurrent(list, predicate, maxConcurrency, FOREVER, DaemonExecutor.shared());
+    }
+
+    /**
+     * Filters {@code list} by applying {@code predicate} to each element with up to {@code maxConcurrency} calls running
+     * at the same time on {@code executor}.
+     * <p>
+     * The first failure, or {@code timeout} elapsing, interrupts all running calls and is rethrown once no more calls
+     * are started; a timeout is thrown as a {@link java.util.concurrent.CompletionException} caused by a
+     * {@link java.util.concurrent.TimeoutException}. No call outlives this method.
+     *
+     * @param <T>            the type of elements in {@code list}
+     * @param list           the list to iterate over
+     * @param predicate      the predicate by which to filter
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @param timeout        the maximum time to wait for all results
+     * @param executor       the executor running the calls
+     * @return a new {@link List} filtered list
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T> List<T> filterConcurrent(List<T> list, Predicate<T> predicate, int maxConcurrency, Duration timeout, Executor executor) {
+        var elements = list.toArray();
+        var matches = ConcurrentListMapper.map(elements, predicate::test, maxConcurrency, timeout, executor);
+        var count = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if ((Boolean) matches[i]) {
+                elements[count++] = elements[i];
+            }
+        }
+        return immutable(count == elements.length ? elements : Arrays.copyOf(elements, count));
+    }
+
     /**
      * Creates a {@link Map} from the elements of {@code list} by applying {@code keyMapper} and {@code valueMapper}.
      *
@@ -109,6 +430,43 @@ public class ListExtensions {
      * @param <V> the type of the values in the result
      */
     public static <T, K, V> Map<K, V> toMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper) {
+        return toMap(list, keyMapper, valueMapper, Parallelism.sequential());
+    }
+
+    /**
+     * Creates a {@link Map} from the elements of {@code list} by applying {@code keyMapper} and {@code valueMapper}, in
+     * parallel if {@code parallelism} applies to the size of {@code list}.
+     * <p>
+     * In parallel, each thread collects a part of {@code list} into a map of its own, and the partial maps are merged
+     * while joining.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param parallelism whether to collect in parallel
+     * @return a new {@link Map} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <K> the type of the keys in the result
+     * @param <V> the type of the values in the result
+     * @throws IllegalStateException if two elements map to the same key
+     */
+    public static <T, K, V> Map<K, V> toMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper, Parallelism parallelism) {
+        if (parallelism.appliesTo(list.size())) {
+            return ParallelListOps.toMap(list, keyMapper, valueMapper, null, parallelism.pool());
+        }
+        if (list instanceof RandomAccess) {
+            var result = new HashMap<K, V>(capacity(list.size()));
+            for (int i = 0; i < list.size(); i++) {
+                var element = list.get(i);
+                var key = keyMapper.apply(element);
+                var value = Objects.requireNonNull(valueMapper.apply(element));
+                var existing = result.putIfAbsent(key, value);
+                if (existing != null) {
+                    throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, existing, value));
+                }
+            }
+            return result;
+        }
         return list.stream().collect(Collectors.toMap(keyMapper, valueMapper));
     }
 
@@ -126,6 +484,224 @@ public class ListExtensions {
      * @param <V> the type of the values in the result
      */
     public static <T, K, V> Map<K, V> toMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction) {
+        return toMap(list, keyMapper, valueMapper, mergeFunction, Parallelism.sequential());
+    }
+
+    /**
+     * Creates a {@link Map} from the elements of {@code list} by applying {@code keyMapper} and {@code valueMapper}, in
+     * parallel if {@code parallelism} applies to the size of {@code list}. If two elements map to the same key, their
+     * values are merged with {@code mergeFunction} in encounter order.
+     * <p>
+     * In parallel, each thread collects a part of {@code list} into a map of its own, and the partial maps are merged
+     * while joining.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @param parallelism whether to collect in parallel
+     * @return a new {@link Map} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <K> the type of the keys in the result
+     * @param <V> the type of the values in the result
+     */
+    public static <T, K, V> Map<K, V> toMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, Parallelism parallelism) {
+        if (parallelism.appliesTo(list.size())) {
+            return ParallelListOps.toMap(list, keyMapper, valueMapper, mergeFunction, parallelism.pool());
+        }
+        if (list instanceof RandomAccess) {
+            var result = new HashMap<K, V>(capacity(list.size()));
+            for (int i = 0; i < list.size(); i++) {
+                var element = list.get(i);
+                result.merge(keyMapper.apply(element), valueMapper.apply(element), mergeFunction);
+            }
+            return result;
+        }
         return list.stream().collect(Collectors.toMap(keyMapper, valueMapper, mergeFunction));
     }
+
+    /**
+     * Creates a {@link CompactMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}. The result is an immutable snapshot that takes less memory per entry than a
+     * {@link HashMap}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @return a new {@link CompactMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <K> the type of the keys in the result
+     * @param <V> the type of the values in the result
+     * @throws IllegalStateException if two elements map to the same key
+     * @throws NullPointerException if an element maps to a {@code null} key or value
+     */
+    public static <T, K, V> CompactMap<K, V> toCompactMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper) {
+        var builder = new CompactMap.Builder<K, V>(list.size());
+        for (var element : list) {
+            var key = keyMapper.apply(element);
+            var value = valueMapper.apply(element);
+            var existing = builder.putIfAbsent(key, value);
+            if (existing != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, existing, value));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a {@link CompactMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}. If two elements map to the same key, their values are merged with {@code mergeFunction} in
+     * encounter order, and the key is removed if it returns {@code null}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @return a new {@link CompactMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <K> the type of the keys in the result
+     * @param <V> the type of the values in the result
+     * @throws NullPointerException if an element maps to a {@code null} key or value
+     */
+    public static <T, K, V> CompactMap<K, V> toCompactMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction) {
+        var builder = new CompactMap.Builder<K, V>(list.size());
+        for (var element : list) {
+            builder.merge(keyMapper.apply(element), valueMapper.apply(element), mergeFunction);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates an {@link IntKeyMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}, storing keys unboxed in an open-addressing table.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @return a new {@link IntKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     * @throws IllegalStateException if two elements map to the same key
+     */
+    public static <T, V> IntKeyMap<V> toIntMap(List<T> list, ToIntFunction<T> keyMapper, Function<T, V> valueMapper) {
+        return IntKeyMap.collect(list, keyMapper, valueMapper, null, IntKeyMap.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an {@link IntKeyMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}. If two elements map to the same key, their values are merged with {@code mergeFunction} in
+     * encounter order, and the key is removed if it returns {@code null}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @return a new {@link IntKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     */
+    public static <T, V> IntKeyMap<V> toIntMap(List<T> list, ToIntFunction<T> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction) {
+        return toIntMap(list, keyMapper, valueMapper, mergeFunction, IntKeyMap.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an {@link IntKeyMap} like {@link #toIntMap(List, ToIntFunction, Function, BinaryOperator)}, whose table
+     * is grown whenever it is fuller than {@code loadFactor}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @param loadFactor the maximum ratio of entries to table slots, between 0 and 1
+     * @return a new {@link IntKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     * @throws IllegalArgumentException if {@code loadFactor} is not between 0 and 1
+     */
+    public static <T, V> IntKeyMap<V> toIntMap(List<T> list, ToIntFunction<T> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, float loadFactor) {
+        return IntKeyMap.collect(list, keyMapper, valueMapper, Objects.requireNonNull(mergeFunction), loadFactor);
+    }
+
+    /**
+     * Creates a {@link LongKeyMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}, storing keys unboxed in an open-addressing table.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @return a new {@link LongKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     * @throws IllegalStateException if two elements map to the same key
+     */
+    public static <T, V> LongKeyMap<V> toLongMap(List<T> list, ToLongFunction<T> keyMapper, Function<T, V> valueMapper) {
+        return LongKeyMap.collect(list, keyMapper, valueMapper, null, LongKeyMap.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a {@link LongKeyMap} from the elements of {@code list} by applying {@code keyMapper} and
+     * {@code valueMapper}. If two elements map to the same key, their values are merged with {@code mergeFunction} in
+     * encounter order, and the key is removed if it returns {@code null}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @return a new {@link LongKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     */
+    public static <T, V> LongKeyMap<V> toLongMap(List<T> list, ToLongFunction<T> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction) {
+        return toLongMap(list, keyMapper, valueMapper, mergeFunction, LongKeyMap.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a {@link LongKeyMap} like {@link #toLongMap(List, ToLongFunction, Function, BinaryOperator)}, whose table
+     * is grown whenever it is fuller than {@code loadFactor}.
+     *
+     * @param list the list to iterate over
+     * @param keyMapper the mapper to apply to each element in {@code list} to determine the key
+     * @param valueMapper the mapper to apply to each element in {@code list} to determine the value
+     * @param mergeFunction the function to merge values of the same key
+     * @param loadFactor the maximum ratio of entries to table slots, between 0 and 1
+     * @return a new {@link LongKeyMap} based on the elements in {@code list}
+     * @param <T> the type of elements in {@code list}
+     * @param <V> the type of the values in the result
+     * @throws IllegalArgumentException if {@code loadFactor} is not between 0 and 1
+     */
+    public static <T, V> LongKeyMap<V> toLongMap(List<T> list, ToLongFunction<T> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, float loadFactor) {
+        return LongKeyMap.collect(list, keyMapper, valueMapper, Objects.requireNonNull(mergeFunction), loadFactor);
+    }
+
+    /**
+     * Determines whether and how a view created by {@link #mapView(List, Function, Memoization)} remembers mapping
+     * results.
+     */
+    public enum Memoization {
+
+        /**
+         * Applies the mapper on every access.
+         */
+        NONE,
+
+        /**
+         * Remembers the result of each index in an array. The view must not be accessed concurrently.
+         */
+        PER_INDEX,
+
+        /**
+         * Remembers the result of each index in an array that is safe for concurrent access. Concurrent first accesses
+         * to the same index may apply the mapper more than once, but all of them observe the same result.
+         */
+        THREAD_SAFE
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> immutable(Object[] elements) {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(elements));
+    }
+
+    private static int capacity(int expectedSize) {
+        return (int) Math.ceil(expectedSize / 0.75);
+    }
 }
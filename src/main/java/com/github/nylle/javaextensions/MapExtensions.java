@@ -2,8 +2,17 @@ package com.github.nylle.javaextensions;
 
 import lombok.NoArgsConstructor;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PRIVATE;
@@ -18,19 +27,360 @@ public class MapExtensions {
      * containing the matching values from both lists or empty.
      * <p>
      * In set theory, the union of a collection of sets is the set of all elements in the collection.
+     * <p>
+     * If both maps are {@link ConcurrentHashMap}s, they are traversed in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool} once they hold at least {@link Parallelism#DEFAULT_THRESHOLD} entries,
+     * and the result is a {@link ConcurrentHashMap} as well.
      *
      * @param left a map to be included in the union
      * @param right a map to be included in the union
      * @return a map containing all elements of the provided maps
      * @param <K> the type of keys maintained by this map
      * @param <V> the type of mapped values
+     * @see #union(Map, Map, Parallelism)
      */
     public static <K, V> Map<K, Tuple<V>> union(Map<K, V> left, Map<K, V> right) {
+        return union(left, right, ParallelMapOps.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a {@link Map} representing the union of {@code left} and {@code right} like {@link #union(Map, Map)},
+     * traversing {@link ConcurrentHashMap}s in parallel if {@code parallelism} applies to their size.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @param parallelism whether to traverse {@link ConcurrentHashMap}s in parallel
+     * @return a map containing all elements of the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Map<K, Tuple<V>> union(Map<K, V> left, Map<K, V> right, Parallelism parallelism) {
+        if (SortedUnion.appliesTo(left, right)) {
+            return SortedUnion.toTreeMap((SortedMap<K, V>) left, (SortedMap<K, V>) right);
+        }
+        if (ParallelMapOps.appliesTo(left, right)) {
+            return ParallelMapOps.union((ConcurrentHashMap<K, V>) left, (ConcurrentHashMap<K, V>) right, parallelism);
+        }
         return Stream.of(left.keySet(), right.keySet())
                 .flatMap(x -> x.stream())
                 .distinct()
                 .collect(toMap(k -> k, v -> new Tuple<>(left.get(v), right.get(v))));
     }
 
+    /**
+     * Creates a {@link CompactMap} representing the union of {@code left} and {@code right}, like
+     * {@link #union(Map, Map)} but as an immutable snapshot that takes less memory per entry than a
+     * {@link HashMap}.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @return a compact map containing all elements of the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @throws NullPointerException if either map contains a {@code null} key
+     */
+    public static <K, V> CompactMap<K, Tuple<V>> compactUnion(Map<K, V> left, Map<K, V> right) {
+        var builder = new CompactMap.Builder<K, Tuple<V>>(left.size() + right.size());
+        left.forEach((key, value) -> builder.putIfAbsent(key, new Tuple<>(value, right.get(key))));
+        right.forEach((key, value) -> {
+            if (!left.containsKey(key)) {
+                builder.putIfAbsent(key, new Tuple<>(null, value));
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Creates a {@link Map} representing the intersection of {@code left} and {@code right}.
+     * <p>
+     * The returned map contains the keys present in both maps with the corresponding value being a {@link Tuple}
+     * containing the matching values from both maps.
+     * <p>
+     * If both maps are {@link ConcurrentHashMap}s, the smaller one is traversed in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool} once it holds at least {@link Parallelism#DEFAULT_THRESHOLD} entries,
+     * and the result is a {@link ConcurrentHashMap} as well.
+     *
+     * @param left a map to be intersected
+     * @param right a map to be intersected
+     * @return a map containing the keys present in both provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @see #intersection(Map, Map, Parallelism)
+     */
+    public static <K, V> Map<K, Tuple<V>> intersection(Map<K, V> left, Map<K, V> right) {
+        return intersection(left, right, ParallelMapOps.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a {@link Map} representing the intersection of {@code left} and {@code right} like
+     * {@link #intersection(Map, Map)}, traversing {@link ConcurrentHashMap}s in parallel if {@code parallelism} applies
+     * to their size.
+     *
+     * @param left a map to be intersected
+     * @param right a map to be intersected
+     * @param parallelism whether to traverse {@link ConcurrentHashMap}s in parallel
+     * @return a map containing the keys present in both provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> Map<K, Tuple<V>> intersection(Map<K, V> left, Map<K, V> right, Parallelism parallelism) {
+        if (ParallelMapOps.appliesTo(left, right)) {
+            return ParallelMapOps.intersection((ConcurrentHashMap<K, V>) left, (ConcurrentHashMap<K, V>) right, parallelism);
+        }
+        var result = new HashMap<K, Tuple<V>>();
+        left.forEach((key, value) -> {
+            var other = right.get(key);
+            if (other != null || right.containsKey(key)) {
+                result.put(key, new Tuple<>(value, other));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates a {@link Map} containing the entries of {@code left} whose keys are not present in {@code right}.
+     * <p>
+     * Swap the arguments to get the entries that are only present in {@code right}.
+     * <p>
+     * If both maps are {@link ConcurrentHashMap}s, {@code left} is traversed in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool} once it holds at least {@link Parallelism#DEFAULT_THRESHOLD} entries,
+     * and the result is a {@link ConcurrentHashMap} as well.
+     *
+     * @param left the map to take entries from
+     * @param right the map whose keys are excluded
+     * @return a map containing the entries of {@code left} whose keys are missing from {@code right}
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @see #difference(Map, Map, Parallelism)
+     */
+    public static <K, V> Map<K, V> difference(Map<K, V> left, Map<K, V> right) {
+        return difference(left, right, ParallelMapOps.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a {@link Map} containing the entries of {@code left} whose keys are not present in {@code right} like
+     * {@link #difference(Map, Map)}, traversing {@link ConcurrentHashMap}s in parallel if {@code parallelism} applies
+     * to their size.
+     *
+     * @param left the map to take entries from
+     * @param right the map whose keys are excluded
+     * @param parallelism whether to traverse {@link ConcurrentHashMap}s in parallel
+     * @return a map containing the entries of {@code left} whose keys are missing from {@code right}
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> Map<K, V> difference(Map<K, V> left, Map<K, V> right, Parallelism parallelism) {
+        if (ParallelMapOps.appliesTo(left, right)) {
+            return ParallelMapOps.difference((ConcurrentHashMap<K, V>) left, (ConcurrentHashMap<K, V>) right, parallelism);
+        }
+        var result = new HashMap<K, V>();
+        left.forEach((key, value) -> {
+            if (!right.containsKey(key)) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates a {@link Map} representing the differences between {@code left} and {@code right}.
+     * <p>
+     * The returned map contains the keys present in only one of the maps, as well as the keys present in both maps
+     * whose values are not {@link Objects#equals(Object, Object) equal}. Like with {@link #union(Map, Map)}, each value
+     * is a {@link Tuple} containing the matching values from both maps or empty.
+     *
+     * @param left a map to be compared
+     * @param right a map to be compared
+     * @return a map containing all keys whose entries differ between the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @see #symmetricDifference(Map, Map, BiPredicate)
+     */
+    public static <K, V> Map<K, Tuple<V>> symmetricDifference(Map<K, V> left, Map<K, V> right) {
+        return symmetricDifference(left, right, Objects::equals);
+    }
+
+    /**
+     * Creates a {@link Map} representing the differences between {@code left} and {@code right}, using {@code equal} to
+     * compare the values of keys present in both maps.
+     * <p>
+     * If both maps are {@link ConcurrentHashMap}s, they are traversed in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool} once they hold at least {@link Parallelism#DEFAULT_THRESHOLD} entries,
+     * and the result is a {@link ConcurrentHashMap} as well. {@code equal} may then be called from several threads at
+     * once.
+     *
+     * @param left a map to be compared
+     * @param right a map to be compared
+     * @param equal the predicate telling whether the values of a key present in both maps are equal
+     * @return a map containing all keys whose entries differ between the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @see #symmetricDifference(Map, Map, BiPredicate, Parallelism)
+     */
+    public static <K, V> Map<K, Tuple<V>> symmetricDifference(Map<K, V> left, Map<K, V> right, BiPredicate<? super V, ? super V> equal) {
+        return symmetricDifference(left, right, equal, ParallelMapOps.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a {@link Map} representing the differences between {@code left} and {@code right} like
+     * {@link #symmetricDifference(Map, Map, BiPredicate)}, traversing {@link ConcurrentHashMap}s in parallel if
+     * {@code parallelism} applies to their size.
+     *
+     * @param left a map to be compared
+     * @param right a map to be compared
+     * @param equal the predicate telling whether the values of a key present in both maps are equal
+     * @param parallelism whether to traverse {@link ConcurrentHashMap}s in parallel
+     * @return a map containing all keys whose entries differ between the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> Map<K, Tuple<V>> symmetricDifference(Map<K, V> left, Map<K, V> right, BiPredicate<? super V, ? super V> equal, Parallelism parallelism) {
+        if (ParallelMapOps.appliesTo(left, right)) {
+            return ParallelMapOps.symmetricDifference((ConcurrentHashMap<K, V>) left, (ConcurrentHashMap<K, V>) right, equal, parallelism);
+        }
+        var result = new HashMap<K, Tuple<V>>();
+        left.forEach((key, value) -> {
+            var other = right.get(key);
+            if (other == null && !right.containsKey(key) || !equal.test(value, other)) {
+                result.put(key, new Tuple<>(value, other));
+            }
+        });
+        right.forEach((key, value) -> {
+            if (!left.containsKey(key)) {
+                result.put(key, new Tuple<>(null, value));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates a {@link SortedMap} representing the union of {@code left} and {@code right}.
+     * <p>
+     * If both maps are sorted by the same comparator, they are merged in a single pass in key order without hashing or
+     * looking up any key in them, and the result is sorted by that comparator as well. Otherwise, this works like
+     * {@link #union(Map, Map)} and the result is sorted like {@code left}.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @return a sorted map containing all elements of the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> SortedMap<K, Tuple<V>> union(SortedMap<K, V> left, SortedMap<K, V> right) {
+        if (SortedUnion.appliesTo(left, right)) {
+            return SortedUnion.toTreeMap(left, right);
+        }
+        var result = new TreeMap<K, Tuple<V>>(left.comparator());
+        result.putAll(union((Map<K, V>) left, right));
+        return result;
+    }
+
+    /**
+     * Returns a lazy stream of the union of {@code left} and {@code right} in key order, without building a result map.
+     * <p>
+     * Each entry holds a key and a {@link Tuple} of the values from both maps, with {@code null} for a missing value.
+     * Both maps are walked in a single merge pass and must not be modified while the stream is in use.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @return a stream of the entries of the union in key order
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     * @throws IllegalArgumentException if {@code left} and {@code right} are not sorted by the same comparator
+     */
+    public static <K, V> Stream<Map.Entry<K, Tuple<V>>> unionStream(SortedMap<K, V> left, SortedMap<K, V> right) {
+        var union = new SortedUnion<>(left, right);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(union, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns a read-only view of the union of {@code left} and {@code right} that is computed on access.
+     * <p>
+     * Unlike {@link #union(Map, Map)}, no result map is built: {@link Map#get(Object)} looks the key up in both maps and
+     * iteration walks them without materializing the union, so the view reflects later changes to either map.
+     * The {@link Tuple} of a key is created anew on every access, with {@code null} for a missing value.
+     * If both maps are sorted by the same comparator, the view iterates in key order. Note that {@link Map#size()} has
+     * to iterate the maps and takes linear time.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @return a read-only view of the union of the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> Map<K, Tuple<V>> unionView(Map<K, V> left, Map<K, V> right) {
+        return new UnionView<>(left, right, (key, leftValue, inLeft, rightValue, inRight) -> new Tuple<>(leftValue, rightValue));
+    }
+
+    /**
+     * Returns a read-only view of the union of {@code left} and {@code right} like {@link #unionView(Map, Map)}, but
+     * with each value being a {@link Match} that tells a key missing from a map apart from a key mapped to {@code null}.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @return a read-only view of the union of the provided maps
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> Map<K, Match<V>> unionMatches(Map<K, V> left, Map<K, V> right) {
+        return new UnionView<>(left, right, (key, leftValue, inLeft, rightValue, inRight) -> new Match<>(leftValue, inLeft, rightValue, inRight));
+    }
+
+    /**
+     * Calls {@code visitor} with every key of the union of {@code left} and {@code right} and its values from both maps,
+     * with {@code null} for a missing value, without allocating a {@link Tuple} or an entry per key.
+     * <p>
+     * If both maps are sorted by the same comparator, they are merged in a single pass and the keys are visited in
+     * order. Otherwise, the keys of {@code left} are visited first, followed by those only found in {@code right}.
+     *
+     * @param left a map to be included in the union
+     * @param right a map to be included in the union
+     * @param visitor the action to be performed for each key
+     * @param <K> the type of keys maintained by this map
+     * @param <V> the type of mapped values
+     */
+    public static <K, V> void forEachUnion(Map<K, V> left, Map<K, V> right, UnionVisitor<? super K, ? super V> visitor) {
+        if (SortedUnion.appliesTo(left, right)) {
+            var union = new SortedUnion<>((SortedMap<K, V>) left, (SortedMap<K, V>) right);
+            UnionCombiner<K, V, Void> combiner = (key, leftValue, inLeft, rightValue, inRight) -> {
+                visitor.visit(key, leftValue, rightValue);
+                return null;
+            };
+            while (union.hasNext()) {
+                union.next(combiner);
+            }
+            return;
+        }
+
+        left.forEach((key, value) -> visitor.visit(key, value, right.get(key)));
+        right.forEach((key, value) -> {
+            if (!left.containsKey(key)) {
+                visitor.visit(key, null, value);
+            }
+        });
+    }
+
     public record Tuple<V>(V left, V right) { }
+
+    /**
+     * The values of a key in the union of two maps, together with whether the key is present in either map.
+     * A missing value is {@code null}, just like a value that is mapped to {@code null}.
+     */
+    public record Match<V>(V left, boolean inLeft, V right, boolean inRight) {
+
+        public boolean inBoth() {
+            return inLeft && inRight;
+        }
+
+        public Tuple<V> toTuple() {
+            return new Tuple<>(left, right);
+        }
+    }
+
+    @FunctionalInterface
+    public interface UnionVisitor<K, V> {
+
+        void visit(K key, V left, V right);
+    }
 }
@@ -0,0 +1,76 @@
+package com.github.nylle.javaextensions;
+
+import com.github.nylle.javaextensions.ListExtensions.Memoization;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * An immutable view of a list that applies a mapper to an element only when it is accessed, optionally memoizing the
+ * result per index.
+ */
+class MappedList<T, R> extends AbstractList<R> implements RandomAccess {
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final Object NULL = new Object();
+
+    private final List<T> list;
+    private final Function<T, R> mapper;
+    private final Memoization memoization;
+    private final Object[] values;
+
+    MappedList(List<T> list, Function<T, R> mapper, Memoization memoization) {
+        this.list = list;
+        this.mapper = mapper;
+        this.memoization = memoization;
+        this.values = memoization == Memoization.NONE ? null : new Object[list.size()];
+    }
+
+    @Override
+    public R get(int index) {
+        return switch (memoization) {
+            case NONE -> mapper.apply(list.get(index));
+            case PER_INDEX -> getMemoized(index);
+            case THREAD_SAFE -> getMemoizedThreadSafe(index);
+        };
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private R getMemoized(int index) {
+        var value = values[Objects.checkIndex(index, values.length)];
+        if (value == null) {
+            value = mask(mapper.apply(list.get(index)));
+            values[index] = value;
+        }
+        return (R) unmask(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private R getMemoizedThreadSafe(int index) {
+        var value = VALUES.getAcquire(values, Objects.checkIndex(index, values.length));
+        if (value == null) {
+            var computed = mask(mapper.apply(list.get(index)));
+            var witness = VALUES.compareAndExchange(values, index, null, computed);
+            value = witness == null ? computed : witness;
+        }
+        return (R) unmask(value);
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+}
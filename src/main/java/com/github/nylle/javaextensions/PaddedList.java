@@ -0,0 +1,74 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable view of a list padded with a value up to a fixed size.
+ * <p>
+ * Indices beyond the source list return the pad value without storing it. The source list must not be structurally
+ * modified while the view is in use. The view is only {@link RandomAccess} if the source list is.
+ */
+class PaddedList<T> extends AbstractList<T> {
+
+    private final List<T> list;
+    private final int listSize;
+    private final int size;
+    private final T value;
+
+    private PaddedList(List<T> list, int size, T value) {
+        this.list = list;
+        this.listSize = list.size();
+        this.size = size;
+        this.value = value;
+    }
+
+    static <T> PaddedList<T> of(List<T> list, int size, T value) {
+        return list instanceof RandomAccess
+                ? new RandomAccessPaddedList<>(list, size, value)
+                : new PaddedList<>(list, size, value);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return index < listSize ? list.get(index) : value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Iterator<T> source = list.iterator();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return index++ < listSize ? source.next() : value;
+            }
+        };
+    }
+
+    private static final class RandomAccessPaddedList<T> extends PaddedList<T> implements RandomAccess {
+
+        private RandomAccessPaddedList(List<T> list, int size, T value) {
+            super(list, size, value);
+        }
+    }
+}
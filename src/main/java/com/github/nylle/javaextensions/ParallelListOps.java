@@ -0,0 +1,190 @@
+package com.github.nylle.javaextensions;
+
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Fork-join implementations of the bulk operations of {@link ListExtensions}.
+ * <p>
+ * Lists are split by index into leaves of equal size, a few per worker thread, so non-{@link RandomAccess} lists are
+ * copied into an array first. Results are written into arrays at their final index or, for maps, built per leaf and
+ * merged pairwise while joining, so threads never contend on shared state.
+ */
+@NoArgsConstructor(access = PRIVATE)
+class ParallelListOps {
+    private static final int MIN_LEAF_SIZE = 1024;
+    private static final int LEAVES_PER_THREAD = 4;
+
+    static <T, R> Object[] map(List<T> list, Function<T, R> mapper, ForkJoinPool pool) {
+        var source = randomAccess(list);
+        var result = new Object[source.size()];
+        pool.invoke(new RangeAction((from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = mapper.apply(source.get(i));
+            }
+        }, 0, result.length, leafSize(result.length, pool)));
+        return result;
+    }
+
+    static <T> Object[] filter(List<T> list, Predicate<T> predicate, ForkJoinPool pool) {
+        var source = randomAccess(list);
+        var matches = new boolean[source.size()];
+        pool.invoke(new RangeAction((from, to) -> {
+            for (int i = from; i < to; i++) {
+                matches[i] = predicate.test(source.get(i));
+            }
+        }, 0, matches.length, leafSize(matches.length, pool)));
+
+        var result = new Object[matches.length];
+        var count = 0;
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i]) {
+                result[count++] = source.get(i);
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Collects {@code list} into a {@link HashMap}, failing on duplicate keys if {@code mergeFunction} is {@code null}.
+     */
+    static <T, K, V> HashMap<K, V> toMap(List<T> list, Function<T, K> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, ForkJoinPool pool) {
+        var source = randomAccess(list);
+        return pool.invoke(new ToMapTask<>(source, keyMapper, valueMapper, mergeFunction, 0, source.size(), leafSize(source.size(), pool)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : (List<T>) Arrays.asList(list.toArray());
+    }
+
+    private static int leafSize(int size, ForkJoinPool pool) {
+        return Math.max(MIN_LEAF_SIZE, size / (pool.getParallelism() * LEAVES_PER_THREAD));
+    }
+
+    @FunctionalInterface
+    private interface Leaf {
+        void compute(int from, int to);
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private final Leaf leaf;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private RangeAction(Leaf leaf, int from, int to, int leafSize) {
+            this.leaf = leaf;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                leaf.compute(from, to);
+                return;
+            }
+
+            var mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(leaf, from, mid, leafSize), new RangeAction(leaf, mid, to, leafSize));
+        }
+    }
+
+    private static class ToMapTask<T, K, V> extends RecursiveTask<HashMap<K, V>> {
+        private final List<T> source;
+        private final Function<T, K> keyMapper;
+        private final Function<T, V> valueMapper;
+        private final BinaryOperator<V> mergeFunction;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private ToMapTask(List<T> source, Function<T, K> keyMapper, Function<T, V> valueMapper, BinaryOperator<V> mergeFunction, int from, int to, int leafSize) {
+            this.source = source;
+            this.keyMapper = keyMapper;
+            this.valueMapper = valueMapper;
+            this.mergeFunction = mergeFunction;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected HashMap<K, V> compute() {
+            if (to - from <= leafSize) {
+                var result = new HashMap<K, V>((int) Math.ceil((to - from) / 0.75));
+                for (int i = from; i < to; i++) {
+                    var element = source.get(i);
+                    put(result, keyMapper.apply(element), valueMapper.apply(element));
+                }
+                return result;
+            }
+
+            var mid = (from + to) >>> 1;
+            var right = new ToMapTask<>(source, keyMapper, valueMapper, mergeFunction, mid, to, leafSize).fork();
+            var left = new ToMapTask<>(source, keyMapper, valueMapper, mergeFunction, from, mid, leafSize).compute();
+            return combine(left, right.join());
+        }
+
+        /**
+         * Merges the smaller map into the larger one, always passing the value of {@code left} first to the merge
+         * function, so that the result is the same as merging in encounter order.
+         */
+        private HashMap<K, V> combine(HashMap<K, V> left, HashMap<K, V> right) {
+            if (left.size() >= right.size()) {
+                for (var entry : right.entrySet()) {
+                    put(left, entry.getKey(), entry.getValue());
+                }
+                return left;
+            }
+
+            for (var entry : left.entrySet()) {
+                var key = entry.getKey();
+                var value = entry.getValue();
+                var existing = right.putIfAbsent(key, value);
+                if (existing != null) {
+                    replace(right, key, merge(key, value, existing));
+                }
+            }
+            return right;
+        }
+
+        private void put(Map<K, V> result, K key, V value) {
+            var existing = result.putIfAbsent(key, Objects.requireNonNull(value));
+            if (existing != null) {
+                replace(result, key, merge(key, existing, value));
+            }
+        }
+
+        private void replace(Map<K, V> result, K key, V merged) {
+            if (merged == null) {
+                result.remove(key);
+            } else {
+                result.put(key, merged);
+            }
+        }
+
+        private V merge(K key, V first, V second) {
+            if (mergeFunction == null) {
+                throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, first, second));
+            }
+            return mergeFunction.apply(first, second);
+        }
+    }
+}
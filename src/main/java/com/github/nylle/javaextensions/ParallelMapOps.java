@@ -0,0 +1,107 @@
+package com.github.nylle.javaextensions;
+
+import com.github.nylle.javaextensions.MapExtensions.Tuple;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Parallel implementations of the set operations of {@link MapExtensions} for {@link ConcurrentHashMap}s.
+ * <p>
+ * The inputs are traversed with the bulk {@code forEach} of {@link ConcurrentHashMap}, which is split across the pool
+ * of a {@link Parallelism} once a map holds at least its threshold of entries. Partial results go straight into a
+ * presized {@link ConcurrentHashMap}, whose bins are updated with CAS or a per-bin lock, so no global lock is ever
+ * taken. Since {@link ConcurrentHashMap} does not permit {@code null}, a {@code null} lookup always means an absent
+ * key.
+ */
+@NoArgsConstructor(access = PRIVATE)
+class ParallelMapOps {
+
+    /**
+     * The policy of the overloads without {@link Parallelism}, which traverse large maps on the common pool.
+     */
+    static final Parallelism DEFAULT_PARALLELISM = Parallelism.on(ForkJoinPool.commonPool());
+
+    static boolean appliesTo(Map<?, ?> left, Map<?, ?> right) {
+        return left instanceof ConcurrentHashMap && right instanceof ConcurrentHashMap;
+    }
+
+    static <K, V> Map<K, Tuple<V>> union(ConcurrentHashMap<K, V> left, ConcurrentHashMap<K, V> right, Parallelism parallelism) {
+        var result = new ConcurrentHashMap<K, Tuple<V>>(capacity(left.mappingCount() + right.mappingCount()));
+        forEach(left, parallelism, (key, value) -> result.put(key, new Tuple<>(value, right.get(key))));
+        forEach(right, parallelism, (key, value) -> {
+            if (!left.containsKey(key)) {
+                result.put(key, new Tuple<>(null, value));
+            }
+        });
+        return result;
+    }
+
+    static <K, V> Map<K, Tuple<V>> intersection(ConcurrentHashMap<K, V> left, ConcurrentHashMap<K, V> right, Parallelism parallelism) {
+        var result = new ConcurrentHashMap<K, Tuple<V>>(capacity(Math.min(left.mappingCount(), right.mappingCount())));
+        if (left.mappingCount() <= right.mappingCount()) {
+            forEach(left, parallelism, (key, value) -> {
+                var other = right.get(key);
+                if (other != null) {
+                    result.put(key, new Tuple<>(value, other));
+                }
+            });
+        } else {
+            forEach(right, parallelism, (key, value) -> {
+                var other = left.get(key);
+                if (other != null) {
+                    result.put(key, new Tuple<>(other, value));
+                }
+            });
+        }
+        return result;
+    }
+
+    static <K, V> Map<K, V> difference(ConcurrentHashMap<K, V> left, ConcurrentHashMap<K, V> right, Parallelism parallelism) {
+        var result = new ConcurrentHashMap<K, V>(capacity(left.mappingCount()));
+        forEach(left, parallelism, (key, value) -> {
+            if (!right.containsKey(key)) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    static <K, V> Map<K, Tuple<V>> symmetricDifference(ConcurrentHashMap<K, V> left, ConcurrentHashMap<K, V> right, BiPredicate<? super V, ? super V> equal, Parallelism parallelism) {
+        var result = new ConcurrentHashMap<K, Tuple<V>>(capacity(left.mappingCount() + right.mappingCount()));
+        forEach(left, parallelism, (key, value) -> {
+            var other = right.get(key);
+            if (other == null || !equal.test(value, other)) {
+                result.put(key, new Tuple<>(value, other));
+            }
+        });
+        forEach(right, parallelism, (key, value) -> {
+            if (!left.containsKey(key)) {
+                result.put(key, new Tuple<>(null, value));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs the bulk {@code forEach} from within the pool of {@code parallelism}, so that the tasks it forks are pushed
+     * to that pool instead of the common pool.
+     */
+    private static <K, V> void forEach(ConcurrentHashMap<K, V> map, Parallelism parallelism, BiConsumer<? super K, ? super V> action) {
+        if (parallelism.appliesTo(capacity(map.mappingCount()))) {
+            parallelism.pool().submit(() -> map.forEach(1, action)).join();
+        } else {
+            map.forEach(action);
+        }
+    }
+
+    private static int capacity(long size) {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+}
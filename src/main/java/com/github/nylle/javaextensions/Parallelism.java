@@ -0,0 +1,81 @@
+package com.github.nylle.javaextensions;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Determines whether the bulk operations of {@link ListExtensions} run sequentially or on a {@link ForkJoinPool}.
+ * <p>
+ * Splitting work across threads only pays off once a list is large enough to amortize forking and joining, so a
+ * parallel policy only applies to lists of at least {@link #threshold()} elements. Smaller lists are processed
+ * sequentially. The cheaper the function applied to each element, the higher the threshold should be;
+ * {@code ListExtensionsBenchmark} can be used to find it for a given machine.
+ */
+public final class Parallelism {
+
+    /**
+     * The threshold of {@link #on(ForkJoinPool)}. It is a conservative starting point for cheap functions; expensive
+     * functions usually benefit from a lower one.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private static final Parallelism SEQUENTIAL = new Parallelism(null, Integer.MAX_VALUE);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private Parallelism(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns a policy that always processes lists on the calling thread.
+     *
+     * @return the sequential policy
+     */
+    public static Parallelism sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns a policy that processes lists of at least {@link #DEFAULT_THRESHOLD} elements on {@code pool}.
+     *
+     * @param pool the pool to run parallel work on
+     * @return a parallel policy
+     */
+    public static Parallelism on(ForkJoinPool pool) {
+        return new Parallelism(Objects.requireNonNull(pool), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns a copy of this policy that goes parallel for lists of at least {@code threshold} elements.
+     *
+     * @param threshold the minimum size of lists to process in parallel
+     * @return a policy with the provided threshold
+     * @throws IllegalArgumentException if {@code threshold} is negative
+     */
+    public Parallelism withThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        return pool == null ? this : new Parallelism(pool, threshold);
+    }
+
+    /**
+     * Returns the minimum size of lists processed in parallel.
+     *
+     * @return the threshold, {@link Integer#MAX_VALUE} for the sequential policy
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    boolean appliesTo(int size) {
+        return pool != null && size >= threshold;
+    }
+
+    ForkJoinPool pool() {
+        return pool;
+    }
+}
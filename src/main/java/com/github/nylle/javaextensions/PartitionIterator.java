@@ -0,0 +1,208 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Produces the partitions of {@link StreamExtensions#partition} from an iterator.
+ * <p>
+ * Elements that are part of a partition are stored exactly once in a {@link WindowBuffer} and each partition is a
+ * read-only view of that buffer, so producing a partition allocates O(1) regardless of its size. Elements between
+ * partitions ({@code step > size}) are skipped without being stored.
+ */
+class PartitionIterator<T> implements Iterator<List<T>> {
+
+    private final Iterator<T> iterator;
+    private final int size;
+    private final int step;
+    private final List<T> pad;
+    private final WindowBuffer<T> buffer;
+    private long start;
+    private long end;
+
+    private PartitionIterator(Iterator<T> iterator, int size, int step, List<T> pad, WindowBuffer<T> buffer) {
+        if (size <= 0 || step <= 0) {
+            throw new IllegalArgumentException("size and step must be positive: " + size + ", " + step);
+        }
+
+        this.iterator = iterator;
+        this.size = size;
+        this.step = step;
+        this.pad = pad;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates an iterator whose partitions are immutable snapshots that stay valid indefinitely.
+     */
+    static <T> PartitionIterator<T> snapshots(Iterator<T> iterator, int size, int step, List<T> pad) {
+        return new PartitionIterator<>(iterator, size, step, pad, new ChunkedBuffer<>(size));
+    }
+
+    /**
+     * Creates an iterator whose partitions are all views of one ring buffer, each valid until the next call to
+     * {@link #next()}.
+     */
+    static <T> PartitionIterator<T> reusing(Iterator<T> iterator, int size, int step, List<T> pad) {
+        return new PartitionIterator<>(iterator, size, step, pad, new RingBuffer<>(size));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * Returns the next partition or an empty list if it is incomplete and there is no pad.
+     */
+    @Override
+    public List<T> next() {
+        while (end - start < size && iterator.hasNext()) {
+            buffer.add(end++, iterator.next());
+        }
+
+        if (end - start < size && pad != null) {
+            for (var element : pad) {
+                if (end - start == size) {
+                    break;
+                }
+                buffer.add(end++, element);
+            }
+        }
+
+        for (int skipped = size; skipped < step && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+
+        var length = (int) (end - start);
+        var partition = length < size && pad == null ? List.<T>of() : buffer.window(start, length);
+        start = step < size ? start + step : end;
+        buffer.release(start);
+        return partition;
+    }
+
+    private interface WindowBuffer<T> {
+
+        void add(long index, T element);
+
+        List<T> window(long start, int length);
+
+        void release(long start);
+    }
+
+    /**
+     * Stores elements in fixed-size chunks that are never modified once written, so views remain valid after the
+     * buffer moves on. Chunks before the current window are released to the garbage collector once no view
+     * references them.
+     */
+    private static class ChunkedBuffer<T> implements WindowBuffer<T> {
+        private static final int MIN_CHUNK_SIZE = 1024;
+
+        private final int chunkSize;
+        private final List<Object[]> chunks = new ArrayList<>();
+        private long firstChunk;
+
+        private ChunkedBuffer(int size) {
+            this.chunkSize = Math.max(size, MIN_CHUNK_SIZE);
+        }
+
+        @Override
+        public void add(long index, T element) {
+            var chunk = index / chunkSize;
+            if (chunk == firstChunk + chunks.size()) {
+                chunks.add(new Object[chunkSize]);
+            }
+            chunks.get((int) (chunk - firstChunk))[(int) (index % chunkSize)] = element;
+        }
+
+        @Override
+        public List<T> window(long start, int length) {
+            var chunk = (int) (start / chunkSize - firstChunk);
+            var offset = (int) (start % chunkSize);
+            var second = offset + length > chunkSize ? chunks.get(chunk + 1) : null;
+            return new ChunkedWindow<>(chunks.get(chunk), second, offset, length);
+        }
+
+        @Override
+        public void release(long start) {
+            var first = start / chunkSize;
+            chunks.subList(0, (int) Math.min(first - firstChunk, chunks.size())).clear();
+            firstChunk = first;
+        }
+    }
+
+    static class ChunkedWindow<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] first;
+        private final Object[] second;
+        private final int offset;
+        private final int size;
+
+        ChunkedWindow(Object[] first, Object[] second, int offset, int size) {
+            this.first = first;
+            this.second = second;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            var i = offset + Objects.checkIndex(index, size);
+            return (T) (i < first.length ? first[i] : second[i - first.length]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Stores the current window in a ring buffer and returns the same view for every window.
+     */
+    private static class RingBuffer<T> implements WindowBuffer<T> {
+        private final Object[] ring;
+        private final RingWindow view = new RingWindow();
+
+        private RingBuffer(int size) {
+            this.ring = new Object[size];
+        }
+
+        @Override
+        public void add(long index, T element) {
+            ring[(int) (index % ring.length)] = element;
+        }
+
+        @Override
+        public List<T> window(long start, int length) {
+            view.head = (int) (start % ring.length);
+            view.size = length;
+            return view;
+        }
+
+        @Override
+        public void release(long start) {
+        }
+
+        private class RingWindow extends AbstractList<T> implements RandomAccess {
+            private int head;
+            private int size;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T get(int index) {
+                var i = head + Objects.checkIndex(index, size);
+                return (T) ring[i < ring.length ? i : i - ring.length];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.nylle.javaextensions;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Splits the partitions of {@link StreamExtensions#partition} of a source with a known size by partition index.
+ * <p>
+ * As long as it is not split, this spliterator streams the source through a {@link PartitionIterator}. The first
+ * split copies the source into an array, after which every partition is a read-only view of that array and any
+ * range of partitions can be handed to another thread, including overlapping ({@code step < size}) and padded
+ * partitions.
+ */
+class PartitionSpliterator<T> implements Spliterator<List<T>> {
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;
+
+    private final Spliterator<T> source;
+    private final long length;
+    private final int size;
+    private final int step;
+    private final List<T> pad;
+    private final PartitionIterator<T> iterator;
+    private boolean started;
+    private Object[] elements;
+    private long origin;
+    private long fence;
+
+    PartitionSpliterator(Spliterator<T> source, int size, int step, List<T> pad) {
+        this.source = source;
+        this.length = source.getExactSizeIfKnown();
+        this.size = size;
+        this.step = step;
+        this.pad = pad;
+        this.iterator = PartitionIterator.snapshots(Spliterators.iterator(source), size, step, pad);
+        this.fence = count(length, size, step, pad != null);
+    }
+
+    private PartitionSpliterator(PartitionSpliterator<T> parent, long origin, long fence) {
+        this.source = null;
+        this.length = parent.length;
+        this.size = parent.size;
+        this.step = parent.step;
+        this.pad = parent.pad;
+        this.iterator = null;
+        this.elements = parent.elements;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns the number of partitions of {@code length} elements; partitions shorter than {@code size} only count
+     * if they are going to be padded.
+     */
+    static long count(long length, int size, int step, boolean padded) {
+        if (padded) {
+            if (step >= size) {
+                return (length + step - 1) / step;
+            }
+            return length == 0 ? 0 : 1 + Math.max(0, (length - size + step - 1) / step);
+        }
+        return length < size ? 0 : (length - size) / step + 1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (origin >= fence) {
+            return false;
+        }
+
+        if (elements == null) {
+            started = true;
+            origin++;
+            action.accept(iterator.next());
+            return true;
+        }
+
+        action.accept(partition(origin++));
+        return true;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        if (elements == null && (started || length > MAX_ELEMENTS)) {
+            return null;
+        }
+
+        var mid = (origin + fence) >>> 1;
+        if (mid <= origin) {
+            return null;
+        }
+
+        if (elements == null) {
+            elements = materialize();
+        }
+
+        var prefix = new PartitionSpliterator<>(this, origin, mid);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    private Object[] materialize() {
+        var array = new Object[(int) length];
+        var index = new int[1];
+        source.forEachRemaining(element -> array[index[0]++] = element);
+        return array;
+    }
+
+    private List<T> partition(long index) {
+        var start = (int) (index * step);
+        var available = (int) Math.min(size, length - start);
+        if (available == size || pad == null) {
+            return new PartitionIterator.ChunkedWindow<>(elements, null, start, available);
+        }
+
+        var padded = new Object[Math.min(size, available + pad.size())];
+        System.arraycopy(elements, start, padded, 0, available);
+        for (int i = available; i < padded.length; i++) {
+            padded[i] = pad.get(i - available);
+        }
+        return new PartitionIterator.ChunkedWindow<>(padded, null, 0, padded.length);
+    }
+}
@@ -0,0 +1,411 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link java.util.List} with structural sharing between versions.
+ * <p>
+ * Elements are stored in a 32-way branching trie with a tail buffer for the last up to 32 elements, like the
+ * persistent vectors of Clojure and Scala. Indexed access, {@link #append} and {@link #update} take O(log32 n), which
+ * is effectively constant, and only copy the path to the affected leaf instead of the whole list.
+ * <p>
+ * A {@link Builder} constructs a vector in bulk by mutating nodes it owns in place.
+ *
+ * @param <T> the type of elements in this vector
+ */
+public class PersistentVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @return the empty vector
+     * @param <T> the type of elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Creates a vector containing {@code elements}.
+     *
+     * @param elements the elements of the vector
+     * @return a new vector containing {@code elements}
+     * @param <T> the type of elements
+     */
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... elements) {
+        return PersistentVector.<T>builder().addAll(Arrays.asList(elements)).build();
+    }
+
+    /**
+     * Creates a vector containing the elements of {@code collection} in iteration order.
+     *
+     * @param collection the collection to copy
+     * @return {@code collection} if it is a vector, otherwise a new vector containing its elements
+     * @param <T> the type of elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> copyOf(Collection<? extends T> collection) {
+        return collection instanceof PersistentVector<?> vector
+                ? (PersistentVector<T>) vector
+                : PersistentVector.<T>builder().addAll(collection).build();
+    }
+
+    /**
+     * Returns a new empty {@link Builder}.
+     *
+     * @return a new builder
+     * @param <T> the type of elements
+     */
+    public static <T> Builder<T> builder() {
+        return PersistentVector.<T>empty().toBuilder();
+    }
+
+    /**
+     * Returns a new {@link Builder} starting with the elements of this vector.
+     * <p>
+     * The builder shares the structure of this vector and copies nodes only when it first modifies them.
+     *
+     * @return a new builder
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new vector with {@code element} appended, sharing the structure of this vector.
+     *
+     * @param element the element to append
+     * @return a new vector containing all elements of this vector and {@code element}
+     */
+    public PersistentVector<T> append(T element) {
+        if (size - tailOffset() < WIDTH) {
+            var newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        var tailNode = new Node(null, tail);
+        if ((size >>> BITS) > (1 << shift)) {
+            var newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            return new PersistentVector<>(size + 1, shift + BITS, newRoot, new Object[]{element});
+        }
+        return new PersistentVector<>(size + 1, shift, pushTail(size, shift, root, tailNode), new Object[]{element});
+    }
+
+    /**
+     * Returns a new vector with the element at {@code index} replaced by {@code element}, sharing the structure of this
+     * vector.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element
+     * @return a new vector with {@code element} at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public PersistentVector<T> update(int index, T element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            var newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, update(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a new vector with all elements of {@code other} appended, sharing the structure of this vector.
+     * <p>
+     * This takes time proportional to the size of {@code other}, but allocates no intermediate vectors.
+     *
+     * @param other the elements to append
+     * @return a new vector containing all elements of this vector and {@code other}
+     */
+    public PersistentVector<T> concat(Collection<? extends T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        return isEmpty() ? copyOf(other) : toBuilder().addAll(other).build();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new VectorSpliterator(0, size);
+    }
+
+    private int tailOffset() {
+        return tailOffset(size);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+
+        var node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        var result = new Node(null, parent.array.clone());
+        var index = ((size - 1) >>> level) & MASK;
+        if (level == BITS) {
+            result.array[index] = tailNode;
+        } else {
+            var child = (Node) parent.array[index];
+            result.array[index] = child != null
+                    ? pushTail(size, level - BITS, child, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+        return result;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        var result = new Node(edit, new Object[WIDTH]);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    private static Node update(int level, Node node, int index, Object element) {
+        var result = new Node(null, node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            var child = (index >>> level) & MASK;
+            result.array[child] = update(level - BITS, (Node) node.array[child], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * A trie node. Nodes are only ever mutated by the {@link Builder} whose edit token they carry.
+     */
+    private static class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Builds a {@link PersistentVector} by mutating the nodes it created in place, so adding an element does not
+     * allocate beyond one new leaf per 32 elements.
+     * <p>
+     * A builder is not thread-safe and cannot be used after {@link #build()}.
+     *
+     * @param <T> the type of elements
+     */
+    public static class Builder<T> {
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PersistentVector<T> vector) {
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = new Node(edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Appends {@code element}.
+         *
+         * @param element the element to append
+         * @return this builder
+         * @throws IllegalStateException if the vector has already been built
+         */
+        public Builder<T> add(T element) {
+            ensureNotBuilt();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+
+            var tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                var newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends all elements of {@code elements} in iteration order.
+         *
+         * @param elements the elements to append
+         * @return this builder
+         * @throws IllegalStateException if the vector has already been built
+         */
+        public Builder<T> addAll(Iterable<? extends T> elements) {
+            for (var element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Creates the vector containing all added elements and invalidates this builder.
+         *
+         * @return a new vector
+         * @throws IllegalStateException if the vector has already been built
+         */
+        public PersistentVector<T> build() {
+            ensureNotBuilt();
+            edit = null;
+            return size == 0
+                    ? empty()
+                    : new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            var result = editable(parent);
+            var index = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                result.array[index] = tailNode;
+            } else {
+                var child = (Node) result.array[index];
+                result.array[index] = child != null
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(edit, level - BITS, tailNode);
+            }
+            return result;
+        }
+
+        private Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        private void ensureNotBuilt() {
+            if (edit == null) {
+                throw new IllegalStateException("Vector has already been built");
+            }
+        }
+    }
+
+    private class VectorSpliterator implements Spliterator<T> {
+        private int index;
+        private final int end;
+        private Object[] array;
+
+        private VectorSpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end) {
+                return false;
+            }
+            if (array == null || (index & MASK) == 0) {
+                array = arrayFor(index);
+            }
+            action.accept((T) array[index++ & MASK]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (index < end) {
+                var chunk = arrayFor(index);
+                var to = Math.min(end, (index | MASK) + 1);
+                for (int i = index & MASK; index < to; i++, index++) {
+                    action.accept((T) chunk[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            var middle = ((index + end) >>> 1) & ~MASK;
+            if (middle <= index) {
+                return null;
+            }
+            var prefix = new VectorSpliterator(index, middle);
+            index = middle;
+            array = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+}
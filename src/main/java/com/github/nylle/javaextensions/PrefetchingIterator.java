@@ -0,0 +1,206 @@
+package com.github.nylle.javaextensions;
+
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a source iterator on a background task into a bounded buffer.
+ * <p>
+ * The background task is submitted by the first call to {@link #hasNext()}, blocks while the buffer is full and ends
+ * when the source is exhausted, throws, or this iterator is closed or becomes unreachable. Exceptions thrown by the
+ * source are rethrown to the consumer after all elements read before them, checked exceptions wrapped in a
+ * {@link CompletionException}. A closed iterator has no more elements.
+ */
+class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final Object END = new Object();
+    private static final Object NULL = new Object();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Executor DAEMON_THREAD = runnable -> {
+        var thread = new Thread(runnable, "prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final Producer<T> producer;
+    private final BlockingQueue<Object> buffer;
+    private final Executor executor;
+    private final Cleaner.Cleanable cleanable;
+    private boolean started;
+    private volatile boolean closed;
+    private Object next;
+
+    PrefetchingIterator(Iterator<T> source, int capacity) {
+        this(source, capacity, DAEMON_THREAD);
+    }
+
+    PrefetchingIterator(Iterator<T> source, int capacity, Executor executor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.producer = new Producer<>(source, buffer);
+        this.executor = executor;
+        this.cleanable = CLEANER.register(this, producer::cancel);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (next == null) {
+            start();
+            try {
+                next = buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the next element", e);
+            }
+        }
+        return available();
+    }
+
+    /**
+     * Returns whether the next element becomes available within {@code timeout}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return {@code true} if the next element is available, {@code false} if the timeout elapsed, there are no more
+     * elements, or the source failed, in which case the failure is thrown by the next call to {@link #hasNext()}
+     */
+    boolean hasNext(long timeout, TimeUnit unit) {
+        if (closed) {
+            return false;
+        }
+        if (next == null) {
+            start();
+            try {
+                next = buffer.poll(timeout, unit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the next element", e);
+            }
+        }
+        return next != null && next != END && !(next instanceof Failure);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var element = next;
+        next = null;
+        return element == NULL ? null : (T) element;
+    }
+
+    /**
+     * Stops the background task. A source blocking in a non-interruptible call keeps it running until the call returns.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cleanable.clean();
+        buffer.clear();
+    }
+
+    private boolean available() {
+        if (next instanceof Failure failure) {
+            if (failure.cause instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) failure.cause;
+        }
+        return next != END;
+    }
+
+    private void start() {
+        if (!started) {
+            started = true;
+            executor.execute(producer);
+        }
+    }
+
+    /**
+     * Moves the elements of the source into the buffer. Holds no reference to the iterator, so that an abandoned
+     * iterator can be cleaned up while the producer is blocked on a full buffer.
+     */
+    private static class Producer<T> implements Runnable {
+        private final Iterator<T> source;
+        private final BlockingQueue<Object> buffer;
+        private Thread thread;
+        private boolean cancelled;
+
+        private Producer(Iterator<T> source, BlockingQueue<Object> buffer) {
+            this.source = source;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                thread = Thread.currentThread();
+            }
+
+            try {
+                produce();
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void produce() {
+            Object terminal = END;
+            try {
+                while (source.hasNext()) {
+                    var element = source.next();
+                    buffer.put(element == null ? NULL : element);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                terminal = new Failure(e instanceof RuntimeException || e instanceof Error ? e : new CompletionException(e));
+            } finally {
+                finish(terminal);
+            }
+        }
+
+        /**
+         * Enqueues the end of the elements, without blocking once cancelled since the buffer is then cleared or
+         * abandoned.
+         */
+        private void finish(Object terminal) {
+            try {
+                buffer.put(terminal);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                buffer.offer(terminal);
+            }
+        }
+    }
+
+    private record Failure(Throwable cause) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.nylle.javaextensions;
+
+import com.github.nylle.javaextensions.MapExtensions.Tuple;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Computes the union of two maps sorted by the same comparator in a single merge pass over both entry sets, without
+ * hashing or looking up any key.
+ */
+class SortedUnion<K, V> implements Iterator<Map.Entry<K, Tuple<V>>> {
+    private final Comparator<? super K> comparator;
+    private final Iterator<Map.Entry<K, V>> leftEntries;
+    private final Iterator<Map.Entry<K, V>> rightEntries;
+    private Map.Entry<K, V> left;
+    private Map.Entry<K, V> right;
+
+    @SuppressWarnings("unchecked")
+    SortedUnion(SortedMap<K, V> left, SortedMap<K, V> right) {
+        if (!appliesTo(left, right)) {
+            throw new IllegalArgumentException("Maps must be sorted by the same comparator");
+        }
+
+        this.comparator = left.comparator() != null ? left.comparator() : (Comparator<? super K>) Comparator.naturalOrder();
+        this.leftEntries = left.entrySet().iterator();
+        this.rightEntries = right.entrySet().iterator();
+        this.left = next(leftEntries);
+        this.right = next(rightEntries);
+    }
+
+    /**
+     * Returns whether both maps are {@link SortedMap}s with the same order.
+     */
+    static boolean appliesTo(Map<?, ?> left, Map<?, ?> right) {
+        return left instanceof SortedMap<?, ?> sortedLeft
+                && right instanceof SortedMap<?, ?> sortedRight
+                && Objects.equals(sortedLeft.comparator(), sortedRight.comparator());
+    }
+
+    /**
+     * Collects the union into a {@link TreeMap} sorted by the same comparator, inserting the merged entries in key
+     * order.
+     */
+    static <K, V> TreeMap<K, Tuple<V>> toTreeMap(SortedMap<K, V> left, SortedMap<K, V> right) {
+        var result = new TreeMap<K, Tuple<V>>(left.comparator());
+        var union = new SortedUnion<>(left, right);
+        while (union.hasNext()) {
+            union.next((key, leftValue, inLeft, rightValue, inRight) -> result.put(key, new Tuple<>(leftValue, rightValue)));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return left != null || right != null;
+    }
+
+    @Override
+    public Map.Entry<K, Tuple<V>> next() {
+        return next((key, left, inLeft, right, inRight) -> new AbstractMap.SimpleImmutableEntry<>(key, new Tuple<>(left, right)));
+    }
+
+    /**
+     * Advances to the next key and returns the result of {@code combiner} for it.
+     */
+    <R> R next(UnionCombiner<K, V, R> combiner) {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var order = order();
+        var key = order <= 0 ? left.getKey() : right.getKey();
+        var leftValue = order <= 0 ? left.getValue() : null;
+        var rightValue = order >= 0 ? right.getValue() : null;
+        advance(order);
+        return combiner.combine(key, leftValue, order <= 0, rightValue, order >= 0);
+    }
+
+    int count() {
+        var count = 0;
+        while (hasNext()) {
+            advance(order());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Compares the current keys; an exhausted side sorts after everything.
+     */
+    private int order() {
+        if (left == null) {
+            return 1;
+        }
+        if (right == null) {
+            return -1;
+        }
+        return comparator.compare(left.getKey(), right.getKey());
+    }
+
+    private void advance(int order) {
+        if (order <= 0) {
+            left = next(leftEntries);
+        }
+        if (order >= 0) {
+            right = next(rightEntries);
+        }
+    }
+
+    private static <K, V> Map.Entry<K, V> next(Iterator<Map.Entry<K, V>> entries) {
+        return entries.hasNext() ? entries.next() : null;
+    }
+}
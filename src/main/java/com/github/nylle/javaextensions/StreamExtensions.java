@@ -1,20 +1,32 @@
 package com.github.nylle.javaextensions;
 
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+import static java.util.Spliterator.SUBSIZED;
 import static lombok.AccessLevel.PRIVATE;
 
 @NoArgsConstructor(access = PRIVATE)
@@ -22,11 +34,13 @@ public class StreamExtensions {
 
     /**
      * Returns an infinite {@link Stream} of {@link Integer} starting at 0, increasing with 1.
+     * <p>
+     * In parallel, the stream is split into chunks of growing size.
      *
      * @return an infinite stream of {@link Integer}
      */
     public static Stream<Integer> range() {
-        return Stream.iterate(0, i -> i + 1);
+        return intRange().boxed();
     }
 
     /**
@@ -52,14 +66,137 @@ public class StreamExtensions {
 
     /**
      * Returns a {@link Stream} of {@link Integer} starting at {@code start} until exclusive {@code end}, increasing with {@code step}.
+     * <p>
+     * The stream is sized and splits evenly, see {@link #intRange(int, int, int)}.
      *
      * @param start the inclusive start of the stream
      * @param end the exclusive end of the stream
      * @param step the step by which to increase each integer
      * @return a stream of {@link Integer}
+     * @throws IllegalArgumentException if {@code step} is not positive
      */
     public static Stream<Integer> range(Integer start, int end, int step) {
-        return Stream.iterate(start, i -> i < end, i -> i + step);
+        return intRange(start, end, step).boxed();
+    }
+
+    /**
+     * Returns an infinite {@link IntStream} starting at 0, increasing with 1 and wrapping around on overflow.
+     * <p>
+     * In parallel, the stream is split into chunks of growing size.
+     *
+     * @return an infinite stream of int
+     */
+    public static IntStream intRange() {
+        return longRange().mapToInt(i -> (int) i);
+    }
+
+    /**
+     * Returns an {@link IntStream} starting at 0 until exclusive {@code end}, increasing with 1.
+     *
+     * @param end the exclusive end of the stream
+     * @return a sized stream of int
+     */
+    public static IntStream intRange(int end) {
+        return intRange(0, end, 1);
+    }
+
+    /**
+     * Returns an {@link IntStream} starting at {@code start} until exclusive {@code end}, increasing with 1.
+     *
+     * @param start the inclusive start of the stream
+     * @param end the exclusive end of the stream
+     * @return a sized stream of int
+     */
+    public static IntStream intRange(int start, int end) {
+        return intRange(start, end, 1);
+    }
+
+    /**
+     * Returns an {@link IntStream} starting at {@code start} until exclusive {@code end}, increasing with {@code step}.
+     * <p>
+     * The stream is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} and splits evenly. Values never wrap
+     * around, even if {@code end} is close to {@link Integer#MAX_VALUE}.
+     *
+     * @param start the inclusive start of the stream
+     * @param end the exclusive end of the stream
+     * @param step the step by which to increase each int
+     * @return a sized stream of int
+     * @throws IllegalArgumentException if {@code step} is not positive
+     */
+    public static IntStream intRange(int start, int end, int step) {
+        requirePositive(step);
+        if (step == 1) {
+            return IntStream.range(start, end);
+        }
+        if (start >= end) {
+            return IntStream.empty();
+        }
+
+        var count = ((long) end - start - 1) / step + 1;
+        return LongStream.range(0, count).mapToInt(i -> (int) (start + i * step));
+    }
+
+    /**
+     * Returns an infinite {@link LongStream} starting at 0, increasing with 1.
+     * <p>
+     * In parallel, the stream is split into chunks of growing size.
+     *
+     * @return an infinite stream of long
+     */
+    public static LongStream longRange() {
+        return StreamSupport.longStream(new InfiniteRangeSpliterator(0), false);
+    }
+
+    /**
+     * Returns a {@link LongStream} starting at 0 until exclusive {@code end}, increasing with 1.
+     *
+     * @param end the exclusive end of the stream
+     * @return a sized stream of long
+     */
+    public static LongStream longRange(long end) {
+        return longRange(0, end, 1);
+    }
+
+    /**
+     * Returns a {@link LongStream} starting at {@code start} until exclusive {@code end}, increasing with 1.
+     *
+     * @param start the inclusive start of the stream
+     * @param end the exclusive end of the stream
+     * @return a sized stream of long
+     */
+    public static LongStream longRange(long start, long end) {
+        return longRange(start, end, 1);
+    }
+
+    /**
+     * Returns a {@link LongStream} starting at {@code start} until exclusive {@code end}, increasing with {@code step}.
+     * <p>
+     * The stream is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} and splits evenly, unless it contains
+     * more than {@link Long#MAX_VALUE} elements. Values never wrap around, even if {@code end} is close to
+     * {@link Long#MAX_VALUE}.
+     *
+     * @param start the inclusive start of the stream
+     * @param end the exclusive end of the stream
+     * @param step the step by which to increase each long
+     * @return a sized stream of long
+     * @throws IllegalArgumentException if {@code step} is not positive
+     */
+    public static LongStream longRange(long start, long end, long step) {
+        requirePositive(step);
+        if (step == 1) {
+            return LongStream.range(start, end);
+        }
+        if (start >= end) {
+            return LongStream.empty();
+        }
+
+        // end - start may exceed Long.MAX_VALUE, but never 2^64 - 1, so it is exact as unsigned value
+        var count = Long.divideUnsigned(end - start - 1, step) + 1;
+        if (count < 0) {
+            var middle = start + (count >>> 1) * step;
+            return LongStream.concat(longRange(start, middle, step), longRange(middle, end, step));
+        }
+        return LongStream.range(0, count).map(i -> start + i * step);
     }
 
     /**
@@ -131,6 +268,10 @@ public class StreamExtensions {
      * [1 2 3 4 5]
      * using a partition size of 3 and a step of 1 will be partitioned into
      * [[1 2 3] [2 3 4] [3 4 5]]
+     * <p>
+     * If the size of {@code stream} is known, e.g. because it is backed by an array or a list, the returned stream
+     * reports the exact number of partitions and can be split by partition to process them in parallel. Splitting
+     * copies the elements of {@code stream} into an array once.
      *
      * @param stream the stream to partition
      * @param size   the maximum size of each partition
@@ -139,11 +280,222 @@ public class StreamExtensions {
      * @return a stream of lists containing the elements of {@code stream}
      */
     public static <T> Stream<List<T>> partition(Stream<T> stream, int size, int step, List<T> pad) {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PartitionIterator<>(stream.iterator(), size, step, pad), ORDERED), false).filter(x -> !x.isEmpty());
+        var source = stream.spliterator();
+        if (source.hasCharacteristics(SIZED | SUBSIZED)) {
+            return StreamSupport.stream(new PartitionSpliterator<>(source, size, step, pad), stream.isParallel());
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(PartitionIterator.snapshots(Spliterators.iterator(source), size, step, pad), ORDERED), false).filter(x -> !x.isEmpty());
+    }
+
+    /**
+     * Works like {@link #partition(Stream, int, int)} but returns the same list instance for every partition.
+     * <p>
+     * The returned list is a read-only view of a ring buffer of {@code size} elements that is overwritten when the
+     * next partition is produced, so it must be consumed (or copied) before advancing the stream. In exchange, no
+     * memory is allocated per partition.
+     *
+     * @param stream the stream to partition
+     * @param size   the maximum size of each partition
+     * @param step   the number of elements between the start of each partition
+     * @param <T>    the type of elements in {@code stream}
+     * @return a stream of views of the current partition of {@code stream}
+     */
+    public static <T> Stream<List<T>> partitionReusingBuffer(Stream<T> stream, int size, int step) {
+        return partitionReusingBuffer(stream, size, step, null);
+    }
+
+    /**
+     * Works like {@link #partition(Stream, int, int, List)} but returns the same list instance for every partition.
+     * <p>
+     * The returned list is a read-only view of a ring buffer of {@code size} elements that is overwritten when the
+     * next partition is produced, so it must be consumed (or copied) before advancing the stream. In exchange, no
+     * memory is allocated per partition.
+     *
+     * @param stream the stream to partition
+     * @param size   the maximum size of each partition
+     * @param step   the number of elements between the start of each partition
+     * @param pad    the elements used to complete the last partition
+     * @param <T>    the type of elements in {@code stream}
+     * @return a stream of views of the current partition of {@code stream}
+     */
+    public static <T> Stream<List<T>> partitionReusingBuffer(Stream<T> stream, int size, int step, List<T> pad) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(PartitionIterator.reusing(stream.iterator(), size, step, pad), ORDERED), false).filter(x -> !x.isEmpty());
+    }
+
+    /**
+     * Returns a lazy stream of batches of the elements in {@code stream}. A batch is emitted when it contains
+     * {@code size} elements or when {@code maxDelay} has passed since its first element arrived, whichever comes first.
+     * <p>
+     * Unlike {@link #partition(Stream, int, int, List)}, batches do not wait for {@code stream} to produce {@code size}
+     * elements, which bounds the latency of slow or bursty sources. {@code stream} is read by a background daemon
+     * thread that buffers up to {@code size} elements ahead; closing the returned stream stops it.
+     *
+     * @param stream   the stream to batch
+     * @param size     the maximum number of elements in each batch
+     * @param maxDelay the maximum time a batch waits for more elements after its first one arrived
+     * @param <T>      the type of elements in {@code stream}
+     * @return a stream of non-empty, immutable batches
+     * @throws IllegalArgumentException if {@code size} is not positive or {@code maxDelay} is negative
+     */
+    public static <T> Stream<List<T>> batch(Stream<T> stream, int size, Duration maxDelay) {
+        return batch(stream.iterator(), size, maxDelay).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy stream of batches of the elements in {@code iterator}. A batch is emitted when it contains
+     * {@code size} elements or when {@code maxDelay} has passed since its first element arrived, whichever comes first.
+     * <p>
+     * {@code iterator} is read by a background daemon thread that buffers up to {@code size} elements ahead; closing
+     * the returned stream stops it.
+     *
+     * @param iterator the iterator to batch
+     * @param size     the maximum number of elements in each batch
+     * @param maxDelay the maximum time a batch waits for more elements after its first one arrived
+     * @param <T>      the type of elements in {@code iterator}
+     * @return a stream of non-empty, immutable batches
+     * @throws IllegalArgumentException if {@code size} is not positive or {@code maxDelay} is negative
+     */
+    public static <T> Stream<List<T>> batch(Iterator<T> iterator, int size, Duration maxDelay) {
+        var batches = BatchIterator.of(iterator, size, maxDelay);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, ORDERED | Spliterator.NONNULL), false).onClose(batches::close);
+    }
+
+    /**
+     * Passes batches of the elements in {@code stream} to {@code flush} until {@code stream} is exhausted. A batch is
+     * flushed when it contains {@code size} elements or when {@code maxDelay} has passed since its first element
+     * arrived, whichever comes first.
+     * <p>
+     * All batches are the same read-only view of one reused buffer, so no memory is allocated per batch. A batch must
+     * not be used after {@code flush} returns.
+     *
+     * @param stream   the stream to batch
+     * @param size     the maximum number of elements in each batch
+     * @param maxDelay the maximum time a batch waits for more elements after its first one arrived
+     * @param flush    the callback receiving each batch
+     * @param <T>      the type of elements in {@code stream}
+     * @throws IllegalArgumentException if {@code size} is not positive or {@code maxDelay} is negative
+     */
+    public static <T> void forEachBatch(Stream<T> stream, int size, Duration maxDelay, Consumer<? super List<T>> flush) {
+        try (stream) {
+            forEachBatch(stream.iterator(), size, maxDelay, flush);
+        }
+    }
+
+    /**
+     * Passes batches of the elements in {@code iterator} to {@code flush} until {@code iterator} is exhausted. A batch
+     * is flushed when it contains {@code size} elements or when {@code maxDelay} has passed since its first element
+     * arrived, whichever comes first.
+     * <p>
+     * All batches are the same read-only view of one reused buffer, so no memory is allocated per batch. A batch must
+     * not be used after {@code flush} returns.
+     *
+     * @param iterator the iterator to batch
+     * @param size     the maximum number of elements in each batch
+     * @param maxDelay the maximum time a batch waits for more elements after its first one arrived
+     * @param flush    the callback receiving each batch
+     * @param <T>      the type of elements in {@code iterator}
+     * @throws IllegalArgumentException if {@code size} is not positive or {@code maxDelay} is negative
+     */
+    public static <T> void forEachBatch(Iterator<T> iterator, int size, Duration maxDelay, Consumer<? super List<T>> flush) {
+        try (var batches = BatchIterator.reusing(iterator, size, maxDelay)) {
+            batches.forEachRemaining(flush);
+        }
+    }
+
+    /**
+     * Returns a stream of the elements in {@code stream} that are read ahead on a background daemon thread into a
+     * buffer of up to {@code bufferSize} elements, so that producing and consuming elements overlap.
+     * <p>
+     * Exceptions thrown while reading {@code stream} are rethrown to the consumer after all elements read before them.
+     * The background thread ends when {@code stream} is exhausted, when the returned stream is closed, or when it becomes
+     * unreachable after a short-circuiting operation. Closing the returned stream also closes {@code stream}.
+     *
+     * @param stream     the stream to read ahead
+     * @param bufferSize the maximum number of elements read ahead
+     * @param <T>        the type of elements in {@code stream}
+     * @return a stream of the elements in {@code stream}
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public static <T> Stream<T> prefetch(Stream<T> stream, int bufferSize) {
+        return prefetch(stream, new PrefetchingIterator<>(stream.iterator(), bufferSize));
+    }
+
+    /**
+     * Returns a stream of the elements in {@code stream} that are read ahead by a task running on {@code executor} into
+     * a buffer of up to {@code bufferSize} elements, so that producing and consuming elements overlap.
+     * <p>
+     * The task blocks while the buffer is full, so {@code executor} should not be a small pool shared with other work.
+     * Exceptions thrown while reading {@code stream} are rethrown to the consumer after all elements read before them.
+     * The task ends when {@code stream} is exhausted, when the returned stream is closed, or when it becomes
+     * unreachable after a short-circuiting operation. Closing the returned stream also closes {@code stream}.
+     *
+     * @param stream     the stream to read ahead
+     * @param bufferSize the maximum number of elements read ahead
+     * @param executor   the executor running the task reading {@code stream}
+     * @param <T>        the type of elements in {@code stream}
+     * @return a stream of the elements in {@code stream}
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public static <T> Stream<T> prefetch(Stream<T> stream, int bufferSize, Executor executor) {
+        return prefetch(stream, new PrefetchingIterator<>(stream.iterator(), bufferSize, executor));
+    }
+
+    private static <T> Stream<T> prefetch(Stream<T> stream, PrefetchingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED), stream.isParallel())
+                .onClose(iterator::close)
+                .onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy stream of the results of applying {@code mapper} to the elements in {@code stream}, with up to
+     * {@code maxConcurrency} calls running at the same time on a shared pool of daemon threads.
+     * <p>
+     * Results are returned in the order of {@code stream}. This is meant for mappers that mostly wait, e.g. on remote
+     * calls, where {@link Stream#parallel()} does not help. The first failure cancels all calls in flight and is
+     * rethrown.
+     *
+     * @param stream         the stream to map
+     * @param mapper         the function to apply to each element
+     * @param maxConcurrency the maximum number of calls in flight
+     * @param <T>            the type of elements in {@code stream}
+     * @param <R>            the type of elements in the resulting stream
+     * @return a stream of the results in the order of {@code stream}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, R> Stream<R> mapConcurrent(Stream<T> stream, Function<T, R> mapper, int maxConcurrency) {
+        return mapConcurrent(stream, mapper, maxConcurrency, DaemonExecutor.shared(), ErrorMode.FAIL_FAST);
+    }
+
+    /**
+     * Returns a lazy stream of the results of applying {@code mapper} to the elements in {@code stream}, with up to
+     * {@code maxConcurrency} calls running at the same time on {@code executor}.
+     * <p>
+     * Results are returned in the order of {@code stream}; results that complete early are held back until all results
+     * before them have been returned. {@code stream} is only read as far as needed to keep {@code maxConcurrency} calls
+     * in flight. Closing the returned stream cancels all calls in flight.
+     *
+     * @param stream         the stream to map
+     * @param mapper         the function to apply to each element
+     * @param maxConcurrency the maximum number of calls in flight
+     * @param executor       the executor running the calls
+     * @param errorMode      how failures of {@code mapper} are reported
+     * @param <T>            the type of elements in {@code stream}
+     * @param <R>            the type of elements in the resulting stream
+     * @return a stream of the results in the order of {@code stream}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, R> Stream<R> mapConcurrent(Stream<T> stream, Function<T, R> mapper, int maxConcurrency, Executor executor, ErrorMode errorMode) {
+        var results = new ConcurrentMapIterator<>(stream.iterator(), mapper, maxConcurrency, executor, errorMode);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, ORDERED), false)
+                .onClose(results::close)
+                .onClose(stream::close);
     }
 
     /**
      * Applies {@code f} to the pair of nth items in {@code stream} and {@code other} until one of them is exhausted.
+     * <p>
+     * If both streams are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, the resulting stream is as well and
+     * splits both streams in lock-step.
      *
      * @param stream the stream to zip with {@code other}
      * @param other the stream to zip with {@code stream}
@@ -153,92 +505,164 @@ public class StreamExtensions {
      * @param <U> the type of elements in {@code other}
      * @param <R> the type of elements in the resulting stream
      */
+    @SuppressWarnings("unchecked")
     public static <T, U, R> Stream<R> zip(Stream<T> stream, Stream<U> other, BiFunction<T, U, R> f) {
-        var streamSpliterator = stream.spliterator();
-        var otherSpliterator = other.spliterator();
-
-        int characteristics = streamSpliterator.characteristics() & otherSpliterator.characteristics() & ~(Spliterator.DISTINCT | Spliterator.SORTED);
-
-        var streamIterator = Spliterators.iterator(streamSpliterator);
-        var otherIterator = Spliterators.iterator(otherSpliterator);
-        var zipIterator = new Iterator<R>() {
-            @Override
-            public boolean hasNext() {
-                return streamIterator.hasNext() && otherIterator.hasNext();
-            }
-
-            @Override
-            public R next() {
-                return f.apply(streamIterator.next(), otherIterator.next());
-            }
-        };
-
-        var split = Spliterators.spliterator(zipIterator, -1, characteristics);
-        return (stream.isParallel() || other.isParallel())
-                ? StreamSupport.stream(split, true)
-                : StreamSupport.stream(split, false);
-    }
-
-    @RequiredArgsConstructor
-    private static class PartitionIterator<T> implements Iterator<List<T>> {
-        private final Iterator<T> iterator;
-        private final int partitionSize;
-        private final Integer stepSize;
-        private final List<T> pad;
-        private final Queue<T> partition = new LinkedList<>();
-        private List<T> discarded = new ArrayList<>();
+        var zip = new ZipSpliterator.Refs<>(new Spliterator<?>[]{stream.spliterator(), other.spliterator()}, values -> f.apply((T) values[0], (U) values[1]));
+        return StreamSupport.stream(splittable(zip), stream.isParallel() || other.isParallel());
+    }
 
-        @Override
-        public List<T> next() {
-            prepareNextPartition();
-            dropItems(stepSize - partitionSize);
+    /**
+     * Applies {@code f} to the nth items of all {@code streams} until one of them is exhausted.
+     * <p>
+     * If all streams are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, the resulting stream is as well and
+     * splits all streams in lock-step.
+     *
+     * @param streams the streams to zip
+     * @param f the function to apply to the list of nth items of all streams
+     * @return a stream of mapping results
+     * @param <T> the type of elements in {@code streams}
+     * @param <R> the type of elements in the resulting stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Stream<R> zip(List<Stream<T>> streams, Function<List<T>, R> f) {
+        if (streams.isEmpty()) {
+            return Stream.empty();
+        }
 
-            var partition = this.partition.stream().limit(partitionSize).toList();
+        var sources = streams.stream().map(Stream::spliterator).toArray(Spliterator<?>[]::new);
+        var zip = new ZipSpliterator.Refs<>(sources, values -> f.apply((List<T>) Collections.unmodifiableList(Arrays.asList(values.clone()))));
+        return StreamSupport.stream(splittable(zip), streams.stream().anyMatch(BaseStream::isParallel));
+    }
 
-            if (pad == null && partition.size() < partitionSize) {
-                return List.of();
-            }
+    /**
+     * Applies {@code f} to each item in {@code stream} and its zero-based index.
+     * <p>
+     * If {@code stream} is {@link Spliterator#SUBSIZED}, the resulting stream can be split without losing track of the
+     * indices.
+     *
+     * @param stream the stream to zip with its indices
+     * @param f the function to apply to each item and its index
+     * @return a stream of mapping results
+     * @param <T> the type of elements in {@code stream}
+     * @param <R> the type of elements in the resulting stream
+     */
+    public static <T, R> Stream<R> zipWithIndex(Stream<T> stream, BiFunction<T, Long, R> f) {
+        var source = stream.spliterator();
+        var indexed = new IndexedSpliterator<>(source, 0, f);
+        return StreamSupport.stream(source.hasCharacteristics(SUBSIZED) ? indexed : Spliterators.spliteratorUnknownSize(Spliterators.iterator(indexed), indexed.characteristics()), stream.isParallel());
+    }
+
+    /**
+     * Applies {@code op} to the pair of nth ints in {@code stream} and {@code other} until one of them is exhausted.
+     * <p>
+     * If both streams are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, the resulting stream is as well and
+     * splits both streams in lock-step.
+     *
+     * @param stream the stream to zip with {@code other}
+     * @param other the stream to zip with {@code stream}
+     * @param op the operator to apply to the pair of ints from both streams
+     * @return a stream of results
+     */
+    public static IntStream zip(IntStream stream, IntStream other, IntBinaryOperator op) {
+        var zip = new ZipSpliterator.Ints(stream.spliterator(), other.spliterator(), op);
+        var split = zip.hasCharacteristics(SIZED) ? zip : Spliterators.spliteratorUnknownSize(Spliterators.iterator(zip), zip.characteristics());
+        return StreamSupport.intStream(split, stream.isParallel() || other.isParallel());
+    }
+
+    /**
+     * Applies {@code op} to the pair of nth longs in {@code stream} and {@code other} until one of them is exhausted.
+     * <p>
+     * If both streams are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, the resulting stream is as well and
+     * splits both streams in lock-step.
+     *
+     * @param stream the stream to zip with {@code other}
+     * @param other the stream to zip with {@code stream}
+     * @param op the operator to apply to the pair of longs from both streams
+     * @return a stream of results
+     */
+    public static LongStream zip(LongStream stream, LongStream other, LongBinaryOperator op) {
+        var zip = new ZipSpliterator.Longs(stream.spliterator(), other.spliterator(), op);
+        var split = zip.hasCharacteristics(SIZED) ? zip : Spliterators.spliteratorUnknownSize(Spliterators.iterator(zip), zip.characteristics());
+        return StreamSupport.longStream(split, stream.isParallel() || other.isParallel());
+    }
 
-            return partition;
+    /**
+     * Applies {@code op} to the pair of nth doubles in {@code stream} and {@code other} until one of them is exhausted.
+     * <p>
+     * If both streams are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, the resulting stream is as well and
+     * splits both streams in lock-step.
+     *
+     * @param stream the stream to zip with {@code other}
+     * @param other the stream to zip with {@code stream}
+     * @param op the operator to apply to the pair of doubles from both streams
+     * @return a stream of results
+     */
+    public static DoubleStream zip(DoubleStream stream, DoubleStream other, DoubleBinaryOperator op) {
+        var zip = new ZipSpliterator.Doubles(stream.spliterator(), other.spliterator(), op);
+        var split = zip.hasCharacteristics(SIZED) ? zip : Spliterators.spliteratorUnknownSize(Spliterators.iterator(zip), zip.characteristics());
+        return StreamSupport.doubleStream(split, stream.isParallel() || other.isParallel());
+    }
+
+    private static <R> Spliterator<R> splittable(ZipSpliterator.Refs<R> zip) {
+        return zip.hasCharacteristics(SIZED) ? zip : Spliterators.spliteratorUnknownSize(Spliterators.iterator(zip), zip.characteristics());
+    }
+
+    private static void requirePositive(long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+    }
+
+    private static class InfiniteRangeSpliterator implements Spliterator.OfLong {
+        private static final int INITIAL_BATCH_SIZE = 1 << 10;
+        private static final int MAX_BATCH_SIZE = 1 << 25;
+
+        private long next;
+        private int batchSize = INITIAL_BATCH_SIZE;
+
+        private InfiniteRangeSpliterator(long next) {
+            this.next = next;
         }
 
         @Override
-        public boolean hasNext() {
-            return iterator.hasNext();
+        public boolean tryAdvance(LongConsumer action) {
+            action.accept(next++);
+            return true;
         }
 
-        private void prepareNextPartition() {
-            cleanUpPartition();
-            while (iterator.hasNext() && partition.size() < partitionSize) {
-                partition.add(iterator.next());
-            }
-            padPartition();
+        @Override
+        public Spliterator.OfLong trySplit() {
+            var prefix = LongStream.range(next, next + batchSize).spliterator();
+            next += batchSize;
+            batchSize = Math.min(batchSize << 1, MAX_BATCH_SIZE);
+            return prefix;
         }
 
-        private void padPartition() {
-            if (partition.size() < partitionSize && pad != null) {
-                partition.addAll(pad);
-            }
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
         }
 
-        private void cleanUpPartition() {
-            if (partition.isEmpty()) {
-                return;
-            }
+        @Override
+        public int characteristics() {
+            return ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
 
-            if (stepSize > partitionSize) {
-                partition.clear();
-                return;
-            }
+    /**
+     * Determines how {@link #mapConcurrent(Stream, Function, int, Executor, ErrorMode)} reports failures of the mapper.
+     */
+    public enum ErrorMode {
 
-            range(stepSize).forEach(i -> partition.remove());
-        }
+        /**
+         * Cancels all calls in flight as soon as one fails and rethrows its exception.
+         */
+        FAIL_FAST,
 
-        private void dropItems(int count) {
-            while (iterator.hasNext() && discarded.size() < count) {
-                discarded.add(iterator.next());
-            }
-            discarded = new ArrayList<>();
-        }
+        /**
+         * Skips elements whose mapping failed and keeps going. Once all other results have been returned, rethrows the
+         * first failure with all later ones attached as suppressed exceptions.
+         */
+        COLLECT_ERRORS
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.github.nylle.javaextensions;
+
+/**
+ * Combines the values of a key in the union of two maps. A value is {@code null} if the key is absent from its map,
+ * which the presence flags tell apart from a {@code null} value.
+ */
+@FunctionalInterface
+interface UnionCombiner<K, V, R> {
+
+    R combine(K key, V left, boolean inLeft, V right, boolean inRight);
+}
@@ -0,0 +1,134 @@
+package com.github.nylle.javaextensions;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * A read-only view of the union of two maps that combines the values of a key only when it is accessed.
+ * <p>
+ * Lookups query both maps. Iteration walks the entries of {@code left} and then those of {@code right} whose keys are
+ * absent from {@code left}; if both maps are sorted by the same comparator, it merges them in key order instead
+ * without any lookups. {@link #size()} has to iterate {@code right} (or both maps, if sorted) and takes linear time.
+ */
+class UnionView<K, V, R> extends AbstractMap<K, R> {
+    private final Map<K, V> left;
+    private final Map<K, V> right;
+    private final UnionCombiner<K, V, R> combiner;
+
+    UnionView(Map<K, V> left, Map<K, V> right, UnionCombiner<K, V, R> combiner) {
+        this.left = left;
+        this.right = right;
+        this.combiner = combiner;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R get(Object key) {
+        var leftValue = left.get(key);
+        var inLeft = leftValue != null || left.containsKey(key);
+        var rightValue = right.get(key);
+        var inRight = rightValue != null || right.containsKey(key);
+        return inLeft || inRight ? combiner.combine((K) key, leftValue, inLeft, rightValue, inRight) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return left.containsKey(key) || right.containsKey(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return left.isEmpty() && right.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        if (SortedUnion.appliesTo(left, right)) {
+            return new SortedUnion<>((SortedMap<K, V>) left, (SortedMap<K, V>) right).count();
+        }
+
+        var size = left.size();
+        for (var key : right.keySet()) {
+            if (!left.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<K, R>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, R>> iterator() {
+                return SortedUnion.appliesTo(left, right) ? new SortedEntries() : new HashedEntries();
+            }
+
+            @Override
+            public int size() {
+                return UnionView.this.size();
+            }
+        };
+    }
+
+    private Map.Entry<K, R> entry(K key, V leftValue, boolean inLeft, V rightValue, boolean inRight) {
+        return new SimpleImmutableEntry<>(key, combiner.combine(key, leftValue, inLeft, rightValue, inRight));
+    }
+
+    private class SortedEntries implements Iterator<Map.Entry<K, R>> {
+        private final SortedUnion<K, V> union = new SortedUnion<>((SortedMap<K, V>) left, (SortedMap<K, V>) right);
+
+        @Override
+        public boolean hasNext() {
+            return union.hasNext();
+        }
+
+        @Override
+        public Map.Entry<K, R> next() {
+            return union.next(UnionView.this::entry);
+        }
+    }
+
+    private class HashedEntries implements Iterator<Map.Entry<K, R>> {
+        private final Iterator<Map.Entry<K, V>> leftEntries = left.entrySet().iterator();
+        private final Iterator<Map.Entry<K, V>> rightEntries = right.entrySet().iterator();
+        private Map.Entry<K, V> rightOnly;
+
+        @Override
+        public boolean hasNext() {
+            if (leftEntries.hasNext()) {
+                return true;
+            }
+            while (rightOnly == null && rightEntries.hasNext()) {
+                var candidate = rightEntries.next();
+                if (!left.containsKey(candidate.getKey())) {
+                    rightOnly = candidate;
+                }
+            }
+            return rightOnly != null;
+        }
+
+        @Override
+        public Map.Entry<K, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (leftEntries.hasNext()) {
+                var entry = leftEntries.next();
+                var key = entry.getKey();
+                var rightValue = right.get(key);
+                return entry(key, entry.getValue(), true, rightValue, rightValue != null || right.containsKey(key));
+            }
+
+            var entry = rightOnly;
+            rightOnly = null;
+            return entry(entry.getKey(), null, false, entry.getValue(), true);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.nylle.javaextensions;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Traverses several spliterators in lock-step and, if all of them are {@link Spliterator#SIZED} and
+ * {@link Spliterator#SUBSIZED}, splits them in lock-step as well.
+ * <p>
+ * Sources that split at the same index (arrays, lists, ranges of the same size) are split without copying. If the
+ * prefixes of a split differ in size, the shorter ones are topped up with elements taken from the beginning of their
+ * suffix, so that every prefix covers the same positions.
+ *
+ * @param <S> the type of the source spliterators
+ */
+abstract class ZipSpliterator<S extends Spliterator<?>> {
+    private static final int SIZED_AND_SUBSIZED = Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    final S[] sources;
+    private final boolean sized;
+
+    ZipSpliterator(S[] sources) {
+        this.sources = sources;
+        this.sized = Arrays.stream(sources).allMatch(source -> source.hasCharacteristics(SIZED_AND_SUBSIZED));
+    }
+
+    public long estimateSize() {
+        var size = Long.MAX_VALUE;
+        for (var source : sources) {
+            size = Math.min(size, source.estimateSize());
+        }
+        return size;
+    }
+
+    public int characteristics() {
+        var characteristics = Spliterator.ORDERED | (sized ? SIZED_AND_SUBSIZED : 0);
+        for (var source : sources) {
+            characteristics &= source.characteristics();
+        }
+        return characteristics;
+    }
+
+    /**
+     * Returns the prefixes of all sources covering the same positions, or {@code null} if the sources cannot be split.
+     */
+    @SuppressWarnings("unchecked")
+    S[] trySplitSources() {
+        if (!sized) {
+            return null;
+        }
+
+        var first = (S) sources[0].trySplit();
+        if (first == null) {
+            return null;
+        }
+
+        var prefixes = sources.clone();
+        prefixes[0] = first;
+        var target = first.getExactSizeIfKnown();
+        for (int i = 1; i < sources.length; i++) {
+            var prefix = (S) sources[i].trySplit();
+            var size = prefix == null ? 0 : prefix.getExactSizeIfKnown();
+            if (prefix == null) {
+                prefix = take(sources[i], target);
+            } else if (size < target) {
+                prefix = concat(prefix, take(sources[i], target - size));
+            } else if (size > target) {
+                for (int j = 0; j < i; j++) {
+                    prefixes[j] = concat(prefixes[j], take(sources[j], size - target));
+                }
+                target = size;
+            }
+            prefixes[i] = prefix;
+        }
+        return prefixes;
+    }
+
+    /**
+     * Removes up to {@code count} elements from the beginning of {@code source} and returns them as a sized spliterator.
+     */
+    abstract S take(S source, long count);
+
+    abstract S concat(S first, S second);
+
+    static class Refs<R> extends ZipSpliterator<Spliterator<Object>> implements Spliterator<R> {
+        private final Function<Object[], R> combiner;
+        private final Object[] values;
+        private int current;
+        private final Consumer<Object> setCurrent;
+
+        @SuppressWarnings("unchecked")
+        Refs(Spliterator<?>[] sources, Function<Object[], R> combiner) {
+            super((Spliterator<Object>[]) sources);
+            this.combiner = combiner;
+            this.values = new Object[sources.length];
+            this.setCurrent = value -> values[current] = value;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            for (current = 0; current < sources.length; current++) {
+                if (!sources[current].tryAdvance(setCurrent)) {
+                    return false;
+                }
+            }
+            action.accept(combiner.apply(values));
+            return true;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            var prefixes = trySplitSources();
+            return prefixes == null ? null : new Refs<>(prefixes, combiner);
+        }
+
+        @Override
+        Spliterator<Object> take(Spliterator<Object> source, long count) {
+            var builder = Stream.builder();
+            for (long i = 0; i < count; i++) {
+                if (!source.tryAdvance(builder)) {
+                    break;
+                }
+            }
+            return builder.build().spliterator();
+        }
+
+        @Override
+        Spliterator<Object> concat(Spliterator<Object> first, Spliterator<Object> second) {
+            return Stream.concat(StreamSupport.stream(first, false), StreamSupport.stream(second, false)).spliterator();
+        }
+    }
+
+    static class Ints extends ZipSpliterator<Spliterator.OfInt> implements Spliterator.OfInt {
+        private final IntBinaryOperator op;
+        private int left;
+        private int right;
+        private final IntConsumer setLeft = value -> left = value;
+        private final IntConsumer setRight = value -> right = value;
+
+        Ints(Spliterator.OfInt first, Spliterator.OfInt second, IntBinaryOperator op) {
+            this(new Spliterator.OfInt[]{first, second}, op);
+        }
+
+        private Ints(Spliterator.OfInt[] sources, IntBinaryOperator op) {
+            super(sources);
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (sources[0].tryAdvance(setLeft) && sources[1].tryAdvance(setRight)) {
+                action.accept(op.applyAsInt(left, right));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            var prefixes = trySplitSources();
+            return prefixes == null ? null : new Ints(prefixes, op);
+        }
+
+        @Override
+        Spliterator.OfInt take(Spliterator.OfInt source, long count) {
+            var builder = IntStream.builder();
+            for (long i = 0; i < count; i++) {
+                if (!source.tryAdvance((IntConsumer) builder)) {
+                    break;
+                }
+            }
+            return builder.build().spliterator();
+        }
+
+        @Override
+        Spliterator.OfInt concat(Spliterator.OfInt first, Spliterator.OfInt second) {
+            return IntStream.concat(StreamSupport.intStream(first, false), StreamSupport.intStream(second, false)).spliterator();
+        }
+    }
+
+    static class Longs extends ZipSpliterator<Spliterator.OfLong> implements Spliterator.OfLong {
+        private final LongBinaryOperator op;
+        private long left;
+        private long right;
+        private final LongConsumer setLeft = value -> left = value;
+        private final LongConsumer setRight = value -> right = value;
+
+        Longs(Spliterator.OfLong first, Spliterator.OfLong second, LongBinaryOperator op) {
+            this(new Spliterator.OfLong[]{first, second}, op);
+        }
+
+        private Longs(Spliterator.OfLong[] sources, LongBinaryOperator op) {
+            super(sources);
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (sources[0].tryAdvance(setLeft) && sources[1].tryAdvance(setRight)) {
+                action.accept(op.applyAsLong(left, right));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            var prefixes = trySplitSources();
+            return prefixes == null ? null : new Longs(prefixes, op);
+        }
+
+        @Override
+        Spliterator.OfLong take(Spliterator.OfLong source, long count) {
+            var builder = LongStream.builder();
+            for (long i = 0; i < count; i++) {
+                if (!source.tryAdvance((LongConsumer) builder)) {
+                    break;
+                }
+            }
+            return builder.build().spliterator();
+        }
+
+        @Override
+        Spliterator.OfLong concat(Spliterator.OfLong first, Spliterator.OfLong second) {
+            return LongStream.concat(StreamSupport.longStream(first, false), StreamSupport.longStream(second, false)).spliterator();
+        }
+    }
+
+    static class Doubles extends ZipSpliterator<Spliterator.OfDouble> implements Spliterator.OfDouble {
+        private final DoubleBinaryOperator op;
+        private double left;
+        private double right;
+        private final DoubleConsumer setLeft = value -> left = value;
+        private final DoubleConsumer setRight = value -> right = value;
+
+        Doubles(Spliterator.OfDouble first, Spliterator.OfDouble second, DoubleBinaryOperator op) {
+            this(new Spliterator.OfDouble[]{first, second}, op);
+        }
+
+        private Doubles(Spliterator.OfDouble[] sources, DoubleBinaryOperator op) {
+            super(sources);
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (sources[0].tryAdvance(setLeft) && sources[1].tryAdvance(setRight)) {
+                action.accept(op.applyAsDouble(left, right));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            var prefixes = trySplitSources();
+            return prefixes == null ? null : new Doubles(prefixes, op);
+        }
+
+        @Override
+        Spliterator.OfDouble take(Spliterator.OfDouble source, long count) {
+            var builder = DoubleStream.builder();
+            for (long i = 0; i < count; i++) {
+                if (!source.tryAdvance((DoubleConsumer) builder)) {
+                    break;
+                }
+            }
+            return builder.build().spliterator();
+        }
+
+        @Override
+        Spliterator.OfDouble concat(Spliterator.OfDouble first, Spliterator.OfDouble second) {
+            return DoubleStream.concat(StreamSupport.doubleStream(first, false), StreamSupport.doubleStream(second, false)).spliterator();
+        }
+    }
+}
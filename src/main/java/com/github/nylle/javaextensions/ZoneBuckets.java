@@ -0,0 +1,139 @@
+package com.github.nylle.javaextensions;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Truncates epoch seconds to the start of local minutes, hours, days or weeks in a {@link ZoneId} using plain epoch
+ * arithmetic.
+ * <p>
+ * The offset transitions of the zone are precomputed up to the end of year {@value #PRECOMPUTED_UNTIL_YEAR}, so
+ * truncating an instant within that range is a binary search and a few arithmetic operations without allocation.
+ * Results match {@code instant.atZone(zoneId).truncatedTo(unit)}, including for local times in daylight saving gaps
+ * and overlaps.
+ */
+public class ZoneBuckets {
+
+    private static final int PRECOMPUTED_UNTIL_YEAR = 2100;
+    private static final long PRECOMPUTED_UNTIL = LocalDate.of(PRECOMPUTED_UNTIL_YEAR + 1, 1, 1).toEpochSecond(LocalTime.MIDNIGHT, ZoneOffset.UTC);
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final Map<ZoneId, ZoneBuckets> CACHE = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+    private final long[] transitions;
+    private final int[] offsets;
+    private final boolean hasFutureTransitions;
+
+    private ZoneBuckets(ZoneRules rules) {
+        var transitions = new ArrayList<>(rules.getTransitions());
+        if (!rules.getTransitionRules().isEmpty()) {
+            var next = rules.nextTransition(transitions.isEmpty() ? Instant.MIN : transitions.get(transitions.size() - 1).getInstant());
+            while (next != null && next.toEpochSecond() < PRECOMPUTED_UNTIL) {
+                transitions.add(next);
+                next = rules.nextTransition(next.getInstant());
+            }
+        }
+
+        this.rules = rules;
+        this.hasFutureTransitions = !rules.getTransitionRules().isEmpty();
+        this.transitions = transitions.stream().mapToLong(ZoneOffsetTransition::toEpochSecond).toArray();
+        this.offsets = new int[transitions.size() + 1];
+        offsets[0] = transitions.isEmpty()
+                ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : transitions.get(0).getOffsetBefore().getTotalSeconds();
+        for (int i = 0; i < transitions.size(); i++) {
+            offsets[i + 1] = transitions.get(i).getOffsetAfter().getTotalSeconds();
+        }
+    }
+
+    /**
+     * Returns the (cached) buckets for {@code zoneId}.
+     *
+     * @param zoneId the zoneId
+     * @return the buckets for {@code zoneId}
+     */
+    public static ZoneBuckets of(ZoneId zoneId) {
+        return CACHE.computeIfAbsent(zoneId, z -> new ZoneBuckets(z.getRules()));
+    }
+
+    /**
+     * Returns the offset from UTC in {@code zoneId} at {@code epochSecond}.
+     *
+     * @param epochSecond the seconds since 1970-01-01T00:00:00Z
+     * @return the total offset in seconds
+     */
+    public int offsetSeconds(long epochSecond) {
+        if (epochSecond >= PRECOMPUTED_UNTIL && hasFutureTransitions) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        var index = Arrays.binarySearch(transitions, epochSecond);
+        return offsets[index >= 0 ? index + 1 : -index - 1];
+    }
+
+    /**
+     * Truncates {@code epochSecond} to the start of the local {@code unit} it falls into.
+     * <p>
+     * Supported units are {@link ChronoUnit#SECONDS}, {@link ChronoUnit#MINUTES}, {@link ChronoUnit#HOURS},
+     * {@link ChronoUnit#HALF_DAYS}, {@link ChronoUnit#DAYS} and {@link ChronoUnit#WEEKS}, with weeks starting on Monday.
+     *
+     * @param epochSecond the seconds since 1970-01-01T00:00:00Z
+     * @param unit the unit to truncate to
+     * @return the start of the bucket in seconds since 1970-01-01T00:00:00Z
+     * @throws IllegalArgumentException if {@code unit} is not supported
+     */
+    public long truncate(long epochSecond, ChronoUnit unit) {
+        return switch (unit) {
+            case SECONDS -> epochSecond;
+            case MINUTES, HOURS, HALF_DAYS, DAYS -> truncate(epochSecond, unit.getDuration().getSeconds(), 0);
+            case WEEKS -> truncateToWeek(epochSecond, DayOfWeek.MONDAY);
+            default -> throw new IllegalArgumentException("Unsupported unit: " + unit);
+        };
+    }
+
+    /**
+     * Truncates {@code epochSecond} to the start of the local week it falls into.
+     *
+     * @param epochSecond the seconds since 1970-01-01T00:00:00Z
+     * @param firstDayOfWeek the day each week starts on
+     * @return the start of the week in seconds since 1970-01-01T00:00:00Z
+     */
+    public long truncateToWeek(long epochSecond, DayOfWeek firstDayOfWeek) {
+        // 1970-01-01 was a Thursday
+        var shift = Math.floorMod(DayOfWeek.THURSDAY.getValue() - firstDayOfWeek.getValue(), 7) * (long) SECONDS_PER_DAY;
+        return truncate(epochSecond, 7L * SECONDS_PER_DAY, shift);
+    }
+
+    private long truncate(long epochSecond, long bucketSeconds, long shift) {
+        var offset = offsetSeconds(epochSecond);
+        var local = epochSecond + offset;
+        var localBucket = local - Math.floorMod(local + shift, bucketSeconds);
+        if (localBucket == local) {
+            return epochSecond;
+        }
+
+        var candidate = localBucket - offset;
+        var candidateOffset = offsetSeconds(candidate);
+        if (candidateOffset == offset) {
+            return candidate;
+        }
+
+        var other = localBucket - candidateOffset;
+        if (offsetSeconds(other) == candidateOffset) {
+            return other;
+        }
+
+        // local start of bucket falls into a gap and is moved forward by the length of the gap
+        return localBucket - Math.min(offset, candidateOffset);
+    }
+}
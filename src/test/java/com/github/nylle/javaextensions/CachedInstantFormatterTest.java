@@ -0,0 +1,101 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CachedInstantFormatterTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @Nested
+    class Of {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX", "HH:mm:ss", "ss.S 'S' z"})
+        void specializesPatternsWithSingleFraction(String pattern) {
+            assertThat(CachedInstantFormatter.of(pattern, BERLIN).isSpecialized()).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"HH:mm:ss.SSS SSS", "HH:mm:ss.nnn", "HH:mm:ss[.SSS]", "HH:mm:ss.SSS A"})
+        void fallsBackForOtherPatterns(String pattern) {
+            assertThat(CachedInstantFormatter.of(pattern, BERLIN).isSpecialized()).isFalse();
+        }
+    }
+
+    @Nested
+    class Format {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX", "HH:mm:ss", "ss.S 'S' z", "HH:mm:ss.nnn"})
+        void formatsLikeDateTimeFormatter(String pattern) {
+            var sut = CachedInstantFormatter.of(pattern, BERLIN);
+            var expected = DateTimeFormatter.ofPattern(pattern).withZone(BERLIN);
+
+            var start = Instant.parse("2023-03-26T00:59:59.123456789Z");
+            for (int i = 0; i < 3000; i++) {
+                var instant = start.plusNanos(i * 1_000_017L);
+
+                assertThat(sut.format(instant)).isEqualTo(expected.format(instant));
+            }
+        }
+
+        @Test
+        void formatsInstantsBeforeEpoch() {
+            var sut = CachedInstantFormatter.of("yyyy-MM-dd HH:mm:ss.SSS", BERLIN);
+
+            assertThat(sut.format(Instant.ofEpochMilli(-1))).isEqualTo("1970-01-01 00:59:59.999");
+        }
+    }
+
+    @Nested
+    class FormatTo {
+
+        @Test
+        void appendsToStringBuilder() {
+            var sut = CachedInstantFormatter.of("HH:mm:ss.SSS", BERLIN);
+            var out = new StringBuilder("at ");
+
+            var actual = sut.formatTo(Instant.ofEpochMilli(1_001), out).append('!');
+
+            assertThat(actual).hasToString("at 01:00:01.001!");
+        }
+
+        @Test
+        void appendsToAppendable() throws Exception {
+            var sut = CachedInstantFormatter.of("HH:mm:ss.SSS", BERLIN);
+            var out = new StringWriter();
+
+            sut.formatTo(Instant.ofEpochMilli(1_001), out);
+
+            assertThat(out).hasToString("01:00:01.001");
+        }
+
+        @Test
+        void appendsEpochSecondAndNanos() {
+            var sut = CachedInstantFormatter.of("HH:mm:ss.SSSSSS", BERLIN);
+
+            var actual = sut.formatTo(1, 1_234_000, new StringBuilder());
+
+            assertThat(actual).hasToString("01:00:01.001234");
+        }
+
+        @Test
+        void throwsOnNanosOutOfRange() {
+            var sut = CachedInstantFormatter.of("HH:mm:ss.SSS", BERLIN);
+
+            assertThatIllegalArgumentException().isThrownBy(() -> sut.formatTo(0, 1_000_000_000, new StringBuilder()))
+                    .withMessage("nanos out of range: 1000000000");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CoarseClockTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final CachedInstantFormatter FORMATTER = CachedInstantFormatter.of("HH:mm:ss.SSS", BERLIN);
+
+    @Nested
+    class Read {
+
+        @Test
+        void returnsInstantOfSourceClock() {
+            var source = Clock.fixed(Instant.ofEpochMilli(42), ZoneOffset.UTC);
+
+            try (var sut = new CoarseClock(source, Duration.ofMillis(1), FORMATTER)) {
+                assertThat(sut.instant()).isEqualTo(Instant.ofEpochMilli(42));
+                assertThat(sut.formatted()).isEqualTo("01:00:00.042");
+            }
+        }
+
+        @Test
+        void isRefreshedInBackground() throws Exception {
+            var millis = new AtomicLong();
+            var source = new TickingClock(millis);
+
+            try (var sut = new CoarseClock(source, Duration.ofMillis(1), FORMATTER)) {
+                millis.set(1_000);
+                var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+                while (!sut.instant().equals(Instant.ofEpochMilli(1_000)) && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+
+                assertThat(sut.instant()).isEqualTo(Instant.ofEpochMilli(1_000));
+                assertThat(sut.formatted()).isEqualTo("01:00:01.000");
+            }
+        }
+
+        @Test
+        void throwsOnNonPositiveResolution() {
+            var source = Clock.systemUTC();
+
+            assertThatIllegalArgumentException().isThrownBy(() -> new CoarseClock(source, Duration.ZERO, FORMATTER))
+                    .withMessage("resolution must be positive: PT0S");
+        }
+    }
+
+    @Nested
+    class AsClock {
+
+        @Test
+        void returnsClockInZone() {
+            var source = Clock.fixed(Instant.ofEpochMilli(42), ZoneOffset.UTC);
+
+            try (var sut = new CoarseClock(source, Duration.ofMillis(1), FORMATTER)) {
+                var actual = sut.asClock(BERLIN);
+
+                assertThat(actual.instant()).isEqualTo(Instant.ofEpochMilli(42));
+                assertThat(actual.millis()).isEqualTo(42);
+                assertThat(actual.getZone()).isEqualTo(BERLIN);
+                assertThat(actual.withZone(ZoneOffset.UTC).getZone()).isEqualTo(ZoneOffset.UTC);
+            }
+        }
+    }
+
+    private static class TickingClock extends Clock {
+        private final AtomicLong millis;
+
+        private TickingClock(AtomicLong millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+}
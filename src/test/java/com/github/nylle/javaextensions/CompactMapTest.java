@@ -0,0 +1,100 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class CompactMapTest {
+
+    @Nested
+    class CopyOf {
+
+        @Test
+        void containsAllEntriesOfTheCopiedMap() {
+            var expected = new HashMap<String, Integer>();
+            for (int i = 0; i < 10_000; i++) {
+                expected.put("key" + i, i);
+            }
+
+            var actual = CompactMap.copyOf(expected);
+
+            assertThat(actual).isEqualTo(expected).hasSameHashCodeAs(expected);
+            assertThat(actual.get("key9999")).isEqualTo(9999);
+            assertThat(actual.get("missing")).isNull();
+            assertThat(actual.get(null)).isNull();
+            assertThat(actual.containsKey(null)).isFalse();
+        }
+
+        @Test
+        void returnsCompactMapsAsIs() {
+            var compact = CompactMap.copyOf(Map.of("foo", 1));
+
+            assertThat(CompactMap.copyOf(compact)).isSameAs(compact);
+        }
+
+        @Test
+        void rejectsNullValues() {
+            var map = new HashMap<String, Integer>();
+            map.put("foo", null);
+
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> CompactMap.copyOf(map));
+        }
+
+        @Test
+        void isImmutable() {
+            var actual = CompactMap.copyOf(Map.of("foo", 1));
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.put("bar", 2));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.entrySet().clear());
+        }
+    }
+
+    @Nested
+    class Builder {
+
+        @Test
+        void behavesLikeHashMapMerge() {
+            var random = new Random(42);
+            var expected = new HashMap<Integer, Integer>();
+            var builder = new CompactMap.Builder<Integer, Integer>(16);
+
+            for (int i = 0; i < 100_000; i++) {
+                var key = random.nextInt(2_000) - 1_000;
+                var value = random.nextInt(10);
+                expected.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+                builder.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+            }
+
+            assertThat(builder.build()).isEqualTo(expected);
+        }
+
+        @Test
+        void shrinksToFitDistinctKeys() {
+            var builder = new CompactMap.Builder<Integer, Integer>(1_000);
+            for (int i = 0; i < 1_000; i++) {
+                builder.merge(i % 10, i, Integer::sum);
+            }
+
+            var actual = builder.build();
+
+            assertThat(actual).hasSize(10);
+            assertThat(actual.capacity()).isEqualTo(16);
+        }
+    }
+
+    @Test
+    void reportsFootprint() {
+        var actual = CompactMap.copyOf(Map.of("foo", 1, "bar", 2, "baz", 3));
+
+        assertThat(actual.capacity()).isEqualTo(8);
+        assertThat(actual.footprint()).isEqualTo(32 + 16 + 2 * 8 * 4);
+        assertThat(actual).containsOnly(entry("foo", 1), entry("bar", 2), entry("baz", 3));
+    }
+}
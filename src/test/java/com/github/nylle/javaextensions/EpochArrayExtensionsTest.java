@@ -0,0 +1,151 @@
+package com.github.nylle.javaextensions;
+
+import lombok.experimental.ExtensionMethod;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtensionMethod(EpochArrayExtensions.class)
+class EpochArrayExtensionsTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    @Nested
+    class Format {
+
+        @Test
+        void formatsEpochMillis() {
+            var epochs = new long[]{0, 1_001, -1};
+
+            var actual = epochs.format(MILLISECONDS, PATTERN, BERLIN);
+
+            assertThat(actual).containsExactly("1970-01-01 01:00:00.000", "1970-01-01 01:00:01.001", "1970-01-01 00:59:59.999");
+        }
+
+        @Test
+        void formatsEpochNanos() {
+            var epochs = new long[]{1_234_567_890L};
+
+            var actual = epochs.format(NANOSECONDS, "HH:mm:ss.SSSSSSSSS", BERLIN);
+
+            assertThat(actual).containsExactly("01:00:01.234567890");
+        }
+
+        @Test
+        void formatsEpochSeconds() {
+            var epochs = new long[]{3_600};
+
+            var actual = epochs.format(SECONDS, PATTERN, BERLIN);
+
+            assertThat(actual).containsExactly("1970-01-01 02:00:00.000");
+        }
+
+        @Test
+        void formatsInParallelInSameOrder() {
+            var epochs = LongStream.range(0, 20_000).map(i -> i * 997).toArray();
+
+            var actual = epochs.format(MILLISECONDS, PATTERN, BERLIN, ForkJoinPool.commonPool());
+
+            assertThat(actual).containsExactly(epochs.format(MILLISECONDS, PATTERN, BERLIN));
+            assertThat(actual[12_345]).isEqualTo(InstantExtensions.format(Instant.ofEpochMilli(epochs[12_345]), PATTERN, BERLIN));
+        }
+    }
+
+    @Nested
+    class FormatTo {
+
+        @Test
+        void appendsDelimitedValues() {
+            var epochs = new long[]{0, 1_001};
+
+            var actual = epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, ";", new StringBuilder());
+
+            assertThat(actual).hasToString("1970-01-01 01:00:00.000;1970-01-01 01:00:01.001");
+        }
+
+        @Test
+        void appendsDelimitedValuesInParallel() {
+            var epochs = LongStream.range(0, 20_000).map(i -> i * 997).toArray();
+
+            var actual = epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, "\n", new StringBuilder(), ForkJoinPool.commonPool());
+
+            assertThat(actual).hasToString(epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, "\n", new StringBuilder()).toString());
+        }
+
+        @Test
+        void appendsBatchesInParallelAfterExistingContent() {
+            var epochs = LongStream.range(0, 3 * 4096).toArray();
+
+            var actual = epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, ",", new StringBuilder("["), ForkJoinPool.commonPool());
+
+            assertThat(actual).hasToString("[" + epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, ",", new StringBuilder()));
+            assertThat(new long[0].formatTo(MILLISECONDS, PATTERN, BERLIN, ",", new StringBuilder("["), ForkJoinPool.commonPool())).hasToString("[");
+        }
+    }
+
+    @Nested
+    class Parse {
+
+        @Test
+        void parsesIntoEpochMillis() {
+            var texts = new String[]{"1970-01-01 01:00:00.000", "1970-01-01 01:00:01.001", "1970-01-01 00:59:59.999"};
+
+            var actual = texts.parse(MILLISECONDS, PATTERN, BERLIN);
+
+            assertThat(actual).containsExactly(0, 1_001, -1);
+        }
+
+        @Test
+        void roundsPre1970ValuesTowardsNegativeInfinity() {
+            var texts = new String[]{"1970-01-01 00:30:00.000", "1970-01-01 00:00:00.000", "1970-01-01 01:30:00.000"};
+
+            var actual = texts.parse(HOURS, PATTERN, BERLIN);
+
+            assertThat(actual).containsExactly(-1, -1, 0);
+        }
+
+        @Test
+        void parsesInParallel() {
+            var epochs = LongStream.range(0, 20_000).map(i -> i * 997).toArray();
+
+            var actual = epochs.format(MILLISECONDS, PATTERN, BERLIN).parse(MILLISECONDS, PATTERN, BERLIN, ForkJoinPool.commonPool());
+
+            assertThat(actual).containsExactly(epochs);
+        }
+
+        @Test
+        void parsesDelimitedText() {
+            var epochs = new long[]{0, 1_001, -1};
+            var text = epochs.formatTo(MILLISECONDS, PATTERN, BERLIN, ", ", new StringBuilder());
+
+            var actual = EpochArrayExtensions.parse(text, ", ", MILLISECONDS, PATTERN, BERLIN);
+
+            assertThat(actual).containsExactly(epochs);
+        }
+
+        @Test
+        void parsesEmptyText() {
+            assertThat(EpochArrayExtensions.parse("", ",", MILLISECONDS, PATTERN, BERLIN)).isEmpty();
+        }
+
+        @Test
+        void throwsOnMissingDelimiter() {
+            assertThatExceptionOfType(DateTimeParseException.class)
+                    .isThrownBy(() -> EpochArrayExtensions.parse("1970-01-01 01:00:00.000|1970-01-01 01:00:00.000", ",", MILLISECONDS, PATTERN, BERLIN))
+                    .withMessage("Expected delimiter at index 23");
+        }
+    }
+}
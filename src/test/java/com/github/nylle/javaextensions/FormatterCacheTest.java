@@ -0,0 +1,113 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FormatterCacheTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    @Nested
+    class Get {
+
+        @Test
+        void returnsFormatterForPatternAndZone() {
+            var sut = new FormatterCache(10);
+
+            var actual = sut.get("yyyy-MM-dd HH:mm:ss", BERLIN).format(Instant.ofEpochSecond(0));
+
+            assertThat(actual).isEqualTo("1970-01-01 01:00:00");
+        }
+
+        @Test
+        void returnsSameFormatterForSamePatternAndZone() {
+            var sut = new FormatterCache(10);
+
+            var first = sut.get("yyyy-MM-dd", BERLIN);
+            var second = sut.get("yyyy-MM-dd", BERLIN);
+
+            assertThat(second).isSameAs(first);
+            assertThat(sut.statistics()).isEqualTo(new FormatterCache.Statistics(1, 1, 0, 1));
+        }
+
+        @Test
+        void distinguishesZones() {
+            var sut = new FormatterCache(10);
+
+            var berlin = sut.get("yyyy-MM-dd", BERLIN);
+            var utc = sut.get("yyyy-MM-dd", UTC);
+
+            assertThat(berlin).isNotSameAs(utc);
+            assertThat(berlin.getZone()).isEqualTo(BERLIN);
+            assertThat(utc.getZone()).isEqualTo(UTC);
+        }
+
+        @Test
+        void evictsToStayWithinMaximumSize() {
+            var sut = new FormatterCache(2);
+
+            sut.get("yyyy", UTC);
+            sut.get("MM", UTC);
+            sut.get("dd", UTC);
+
+            assertThat(sut.statistics().size()).isEqualTo(2);
+            assertThat(sut.statistics().evictions()).isEqualTo(1);
+        }
+
+        @Test
+        void evictsUnreferencedFormattersFirst() {
+            var sut = new FormatterCache(2);
+
+            var year = sut.get("yyyy", UTC);
+            sut.get("MM", UTC);
+            sut.get("yyyy", UTC);
+            sut.get("dd", UTC);
+
+            assertThat(sut.get("yyyy", UTC)).isSameAs(year);
+        }
+
+        @Test
+        void throwsOnInvalidMaximumSize() {
+            assertThatIllegalArgumentException().isThrownBy(() -> new FormatterCache(0))
+                    .withMessage("maximumSize must be positive: 0");
+        }
+    }
+
+    @Nested
+    class Prewarm {
+
+        @Test
+        void cachesFormattersWithoutAffectingStatistics() {
+            var sut = new FormatterCache(10);
+
+            sut.prewarm(BERLIN, "yyyy-MM-dd", "HH:mm:ss");
+
+            assertThat(sut.statistics()).isEqualTo(new FormatterCache.Statistics(0, 0, 0, 2));
+
+            sut.get("HH:mm:ss", BERLIN);
+
+            assertThat(sut.statistics().hitRate()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    class Clear {
+
+        @Test
+        void removesFormattersAndResetsStatistics() {
+            var sut = new FormatterCache(10);
+            sut.get("yyyy", UTC);
+
+            sut.clear();
+
+            assertThat(sut.statistics()).isEqualTo(new FormatterCache.Statistics(0, 0, 0, 0));
+        }
+    }
+}
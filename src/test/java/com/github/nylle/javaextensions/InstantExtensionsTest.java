@@ -4,10 +4,16 @@ import lombok.experimental.ExtensionMethod;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @ExtensionMethod(InstantExtensions.class)
 class InstantExtensionsTest {
@@ -30,4 +36,70 @@ class InstantExtensionsTest {
             assertThat(actual).isEqualTo(expected);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class FormatTo {
+
+        @Test
+        void appendsFormattedInstantUsingCachedFormatter() {
+            var formatter = CachedInstantFormatter.of("yyyy-MM-dd HH:mm:ss.SSS", ZoneId.of("Europe/Berlin"));
+
+            var actual = Instant.ofEpochMilli(42).formatTo(formatter, new StringBuilder());
+
+            assertThat(actual).hasToString("1970-01-01 01:00:00.042");
+        }
+    }
+
+    @Nested
+    class Truncate {
+
+        @Test
+        void truncatesToStartOfLocalDay() {
+            var actual = Instant.parse("2023-07-01T21:59:59Z").truncate(ChronoUnit.DAYS, ZoneId.of("Europe/Berlin"));
+
+            assertThat(actual).isEqualTo(Instant.parse("2023-06-30T22:00:00Z"));
+        }
+    }
+
+    @Nested
+    class GroupingByBucket {
+
+        @Test
+        void groupsInstantsByStartOfLocalHour() {
+            var instants = Stream.of("10:59:59Z", "10:15:00Z", "11:00:00Z").map(x -> Instant.parse("2023-07-01T" + x));
+
+            var actual = instants.collect(InstantExtensions.groupingByBucket(ChronoUnit.HOURS, ZoneId.of("Asia/Kolkata")));
+
+            assertThat(actual).containsExactly(
+                    entry(Instant.parse("2023-07-01T09:30:00Z"), List.of(Instant.parse("2023-07-01T10:15:00Z"))),
+                    entry(Instant.parse("2023-07-01T10:30:00Z"), List.of(Instant.parse("2023-07-01T10:59:59Z"), Instant.parse("2023-07-01T11:00:00Z"))));
+        }
+
+        @Test
+        void groupsElementsByStartOfLocalDay() {
+            var events = Stream.of(Map.entry("a", Instant.parse("2023-07-01T21:59:59Z")), Map.entry("b", Instant.parse("2023-07-01T22:00:00Z")));
+
+            var actual = events.collect(InstantExtensions.groupingByBucket(x -> x.getValue(), ChronoUnit.DAYS, ZoneId.of("Europe/Berlin")));
+
+            assertThat(actual).containsExactly(
+                    entry(Instant.parse("2023-06-30T22:00:00Z"), List.of(Map.entry("a", Instant.parse("2023-07-01T21:59:59Z")))),
+                    entry(Instant.parse("2023-07-01T22:00:00Z"), List.of(Map.entry("b", Instant.parse("2023-07-01T22:00:00Z")))));
+        }
+    }
+
+    @Nested
+    class CoarseClock {
+
+        @Test
+        void returnsRecentInstantAndItsFormattedString() {
+            var before = Instant.now();
+
+            try (var clock = InstantExtensions.coarseClock(Duration.ofMillis(10), "yyyy-MM-dd HH:mm:ss.SSS", ZoneId.of("Europe/Berlin"))) {
+                var tick = clock.instant();
+
+                assertThat(tick).isBetween(before.minusSeconds(1), Instant.now());
+                assertThat(clock.formatted()).hasSize(23);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class IntKeyMapTest {
+
+    @Nested
+    class Merge {
+
+        @Test
+        void growsBeyondExpectedSize() {
+            var actual = new IntKeyMap<String>(1, IntKeyMap.DEFAULT_LOAD_FACTOR);
+
+            for (int i = 0; i < 10_000; i++) {
+                actual.merge(i * 1024, "v" + i, (a, b) -> a + b);
+            }
+
+            assertThat(actual.size()).isEqualTo(10_000);
+            assertThat(actual.get(9_999 * 1024)).isEqualTo("v9999");
+            assertThat(actual.get(1)).isNull();
+        }
+
+        @Test
+        void behavesLikeHashMapMerge() {
+            var random = new Random(42);
+            var expected = new HashMap<Integer, Integer>();
+            var actual = new IntKeyMap<Integer>(16, 0.9f);
+
+            for (int i = 0; i < 100_000; i++) {
+                var key = random.nextInt(2_000) - 1_000;
+                var value = random.nextInt(10);
+                expected.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+                actual.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+            }
+
+            assertThat(actual.asMap()).isEqualTo(expected);
+            assertThat(actual.keys()).containsExactlyInAnyOrder(expected.keySet().stream().mapToInt(x -> x).toArray());
+        }
+
+        @Test
+        void supportsExtremeKeys() {
+            var actual = new IntKeyMap<String>(2, IntKeyMap.DEFAULT_LOAD_FACTOR);
+
+            actual.merge(0, "zero", (a, b) -> b);
+            actual.merge(Integer.MIN_VALUE, "min", (a, b) -> b);
+            actual.merge(Integer.MAX_VALUE, "max", (a, b) -> b);
+
+            assertThat(actual.asMap()).containsOnly(entry(0, "zero"), entry(Integer.MIN_VALUE, "min"), entry(Integer.MAX_VALUE, "max"));
+        }
+    }
+
+    @Nested
+    class Accessors {
+
+        @Test
+        void readWithoutBoxing() {
+            var actual = new IntKeyMap<String>(2, IntKeyMap.DEFAULT_LOAD_FACTOR);
+            actual.putIfAbsent(1, "foo");
+            actual.putIfAbsent(2, "bar");
+            var visited = new HashMap<Integer, String>();
+
+            actual.forEach((key, value) -> visited.put(key, value));
+
+            assertThat(actual.containsKey(1)).isTrue();
+            assertThat(actual.containsKey(3)).isFalse();
+            assertThat(actual.getOrDefault(3, "baz")).isEqualTo("baz");
+            assertThat(visited).containsOnly(entry(1, "foo"), entry(2, "bar"));
+        }
+
+        @Test
+        void adaptToReadOnlyMap() {
+            var map = new IntKeyMap<String>(2, IntKeyMap.DEFAULT_LOAD_FACTOR);
+            map.putIfAbsent(1, "foo");
+
+            var actual = map.asMap();
+
+            assertThat(actual).containsOnly(entry(1, "foo"));
+            assertThat(actual.get("1")).isNull();
+            assertThat(actual.containsKey(1L)).isFalse();
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.put(2, "bar"));
+        }
+    }
+
+    @Test
+    void rejectsInvalidLoadFactor() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new IntKeyMap<String>(1, 1f));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new IntKeyMap<String>(1, 0f));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new IntKeyMap<String>(1, Float.NaN));
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntListTest {
+
+    @Nested
+    class Add {
+
+        @Test
+        void growsBeyondInitialCapacity() {
+            var actual = new IntList();
+
+            for (int i = 0; i < 1_000; i++) {
+                actual.add(i);
+            }
+            actual.addAll(IntList.of(-1, -2));
+
+            assertThat(actual.size()).isEqualTo(1_002);
+            assertThat(actual.get(999)).isEqualTo(999);
+            assertThat(actual.get(1_001)).isEqualTo(-2);
+        }
+
+        @Test
+        void replacesElements() {
+            var actual = IntList.of(1, 2, 3);
+
+            assertThat(actual.set(1, 5)).isEqualTo(2);
+            assertThat(actual).isEqualTo(IntList.of(1, 5, 3));
+        }
+
+        @Test
+        void throwsForIndexOutOfBounds() {
+            var actual = new IntList(8);
+            actual.add(1);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> actual.get(1));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> actual.set(-1, 0));
+        }
+    }
+
+    @Nested
+    class Extensions {
+
+        @Test
+        void findsElementOrEmpty() {
+            var actual = IntList.of(1, 2);
+
+            assertThat(actual.find(1)).isEqualTo(OptionalInt.of(2));
+            assertThat(actual.find(2)).isEmpty();
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> actual.find(-1));
+        }
+
+        @Test
+        void concatenatesLists() {
+            var actual = IntList.of(1, 2).concat(IntList.of(), IntList.of(3));
+
+            assertThat(actual).isEqualTo(IntList.of(1, 2, 3));
+        }
+
+        @Test
+        void padsAndAppendsWithoutModifyingTheList() {
+            var list = IntList.of(1, 2);
+
+            assertThat(list.pad(4, 0)).isEqualTo(IntList.of(1, 2, 0, 0));
+            assertThat(list.pad(1, 0)).isEqualTo(list).isNotSameAs(list);
+            assertThat(list.append(3)).isEqualTo(IntList.of(1, 2, 3));
+            assertThat(list).isEqualTo(IntList.of(1, 2));
+        }
+
+        @Test
+        void mapsAndFilters() {
+            var list = IntList.of(1, 2, 3, 4);
+
+            assertThat(list.map(x -> x * 10)).isEqualTo(IntList.of(10, 20, 30, 40));
+            assertThat(list.filter(x -> x % 2 == 0)).isEqualTo(IntList.of(2, 4));
+            assertThat(list.mapToObj(Integer::toString)).containsExactly("1", "2", "3", "4");
+        }
+
+        @Test
+        void zipsUntilTheShorterListIsExhausted() {
+            var actual = IntList.of(1, 2, 3).zip(IntList.of(10, 20), Integer::sum);
+
+            assertThat(actual).isEqualTo(IntList.of(11, 22));
+        }
+    }
+
+    @Nested
+    class Partition {
+
+        @Test
+        void dropsIncompletePartitions() {
+            var actual = IntList.of(1, 2, 3, 4, 5, 6, 7, 8, 9).partition(2, 4).toList();
+
+            assertThat(actual).containsExactly(IntList.of(1, 2), IntList.of(5, 6));
+        }
+
+        @Test
+        void reusesElementsIfStepIsSmallerThanSize() {
+            var actual = IntList.of(1, 2, 3, 4, 5).partition(3, 1).toList();
+
+            assertThat(actual).containsExactly(IntList.of(1, 2, 3), IntList.of(2, 3, 4), IntList.of(3, 4, 5));
+        }
+
+        @Test
+        void padsLastPartitionLikeStreamPartition() {
+            var list = IntList.of(1, 2, 3, 4, 5, 6, 7);
+
+            var actual = list.partition(3, 3, IntList.of(0)).map(IntList::asList).toList();
+
+            assertThat(actual).isEqualTo(StreamExtensions.partition(list.stream().boxed(), 3, 3, List.of(0)).toList());
+        }
+
+        @Test
+        void reportsTheNumberOfPartitions() {
+            var actual = IntList.of(1, 2, 3, 4, 5, 6, 7, 8, 9).partition(2, 4, IntList.of(0));
+
+            assertThat(actual.spliterator().getExactSizeIfKnown()).isEqualTo(3);
+        }
+
+        @Test
+        void throwsForInvalidSizeOrStep() {
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntList.of(1).partition(0, 1));
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntList.of(1).partition(1, 0));
+        }
+    }
+
+    @Nested
+    class Conversion {
+
+        @Test
+        void streamsBackingArray() {
+            var list = IntList.copyOf(IntStream.range(0, 100));
+            list.add(100);
+
+            var actual = list.stream();
+
+            assertThat(actual.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(list.stream().sum()).isEqualTo(5050);
+            assertThat(list.toArray()).hasSize(101);
+        }
+
+        @Test
+        void adaptsToReadOnlyList() {
+            var actual = IntList.of(1, 2).asList();
+
+            assertThat(actual).containsExactly(1, 2).isEqualTo(List.of(1, 2));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.add(3));
+        }
+
+        @Test
+        void printsLikeList() {
+            assertThat(IntList.of(1, 2)).hasToString("[1, 2]").hasSameHashCodeAs(List.of(1, 2));
+        }
+    }
+}
@@ -1,14 +1,34 @@
 package com.github.nylle.javaextensions;
 
 import lombok.experimental.ExtensionMethod;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @ExtensionMethod(ListExtensions.class)
 class ListExtensionsTest {
@@ -24,6 +44,52 @@ class ListExtensionsTest {
         }
     }
 
+    @Nested
+    class ConcatView {
+
+        @Test
+        void returnsImmutableViewContainingElementsOfProvidedLists() {
+            var actual = List.of("foo").concatView(List.of(), List.of("bar", "bat"));
+
+            assertThat(actual).containsExactly("foo", "bar", "bat");
+            assertThat(actual.get(2)).isEqualTo("bat");
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.add("baz"));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> actual.get(3));
+        }
+
+        @Test
+        void flattensNestedViews() {
+            var actual = List.of(1).concatView(List.of(2)).concatView(List.of(3).concatView(List.of(4)));
+
+            assertThat(actual).containsExactly(1, 2, 3, 4);
+            assertThat(actual).isEqualTo(List.of(1, 2, 3, 4));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void isSizedAndSplittable() {
+            List<Integer>[] lists = IntStream.range(0, 100).mapToObj(i -> IntStream.range(i * 100, i * 100 + 100).boxed().toList()).toArray(List[]::new);
+
+            var actual = List.<Integer>of().concatView(lists);
+
+            var spliterator = actual.spliterator();
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(spliterator.trySplit().estimateSize()).isEqualTo(5_000);
+            assertThat(actual.parallelStream().mapToInt(x -> x).toArray()).containsExactly(IntStream.range(0, 10_000).toArray());
+        }
+
+        @Test
+        void advancesThroughLinkedListsWithoutIndexedAccess() {
+            var linked = IntStream.range(0, 200_000).boxed().collect(Collectors.toCollection(LinkedList::new));
+            var actual = linked.concatView(List.of(-1), linked);
+
+            var result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> actual.stream().skip(100_000).limit(200_000).mapToLong(x -> x).sum());
+
+            assertThat(result).isEqualTo(LongStream.range(100_000, 200_000).sum() - 1 + LongStream.range(0, 99_999).sum());
+            assertThat(actual.stream().filter(x -> x < 0).findFirst()).contains(-1);
+        }
+    }
+
     @Nested
     class Find {
 
@@ -44,6 +110,21 @@ class ListExtensionsTest {
 
             assertThat(actual).isNull();
         }
+
+        @Test
+        void returnsNthElementInLinkedList() {
+            var list = new LinkedList<>(List.of("foo", "bar"));
+
+            assertThat(list.find(1)).isEqualTo("bar");
+            assertThat(list.find(2)).isNull();
+        }
+
+        @Test
+        void returnsNullElement() {
+            var list = Arrays.asList("foo", null);
+
+            assertThat(list.find(1)).isNull();
+        }
     }
 
     @Nested
@@ -76,6 +157,84 @@ class ListExtensionsTest {
         }
     }
 
+    @Nested
+    class PadView {
+
+        @Test
+        void returnsViewWithPadValueForAdditionalIndices() {
+            var actual = List.of("foo", "bar").padView(4, "baz");
+
+            assertThat(actual).containsExactly("foo", "bar", "baz", "baz");
+            assertThat(actual.get(3)).isEqualTo("baz");
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.set(0, "baz"));
+        }
+
+        @Test
+        void returnsGivenListIfListSizeIsSameOrGreaterThanSpecifiedSize() {
+            var list = List.of("foo", "bar");
+
+            assertThat(list.padView(2, "baz")).isSameAs(list);
+        }
+
+        @Test
+        void isOnlyRandomAccessIfListIs() {
+            var linked = new LinkedList<>(List.of("foo"));
+
+            assertThat(linked.padView(3, "baz")).isNotInstanceOf(RandomAccess.class).containsExactly("foo", "baz", "baz");
+            assertThat(List.of("foo").padView(3, "baz")).isInstanceOf(RandomAccess.class);
+        }
+    }
+
+    @Nested
+    class AppendView {
+
+        @Test
+        void returnsImmutableViewWithElementsOfProvidedListAndProvidedElement() {
+            var actual = List.of("foo").appendView("bar").appendView("baz");
+
+            assertThat(actual).containsExactly("foo", "bar", "baz");
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.add("bat"));
+        }
+
+        @Test
+        void appendsInAmortizedConstantTime() {
+            var actual = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                var view = List.<Integer>of();
+                for (int i = 0; i < 100_000; i++) {
+                    view = view.appendView(i);
+                }
+                return view;
+            });
+
+            assertThat(actual).hasSize(100_000);
+            assertThat(actual.get(99_999)).isEqualTo(99_999);
+            assertThat(actual).isInstanceOf(RandomAccess.class).isEqualTo(IntStream.range(0, 100_000).boxed().toList());
+        }
+
+        @Test
+        void leavesEarlierViewsUnchangedWhenBranching() {
+            var base = List.of("foo").appendView("bar");
+
+            var left = base.appendView("left");
+            var right = base.appendView("right");
+
+            assertThat(base).containsExactly("foo", "bar");
+            assertThat(left).containsExactly("foo", "bar", "left");
+            assertThat(right).containsExactly("foo", "bar", "right");
+        }
+
+        @Test
+        void isOnlyRandomAccessIfAllListsAre() {
+            var linked = new LinkedList<>(List.of("foo", "bar"));
+
+            var actual = linked.appendView("baz");
+
+            assertThat(actual).isNotInstanceOf(RandomAccess.class).containsExactly("foo", "bar", "baz");
+            assertThat(List.of("foo").concatView(linked)).isNotInstanceOf(RandomAccess.class);
+            assertThat(List.of("foo").concatView(List.of("bar"))).isInstanceOf(RandomAccess.class);
+        }
+    }
+
     @Nested
     class Append {
 
@@ -100,6 +259,110 @@ class ListExtensionsTest {
 
             assertThat(actual).containsExactly("FOO", "BAR");
         }
+
+        @Test
+        void mapsAllElementsInLinkedList() {
+            var list = new LinkedList<>(List.of("foo", "bar"));
+
+            var actual = list.map(x -> x.toUpperCase());
+
+            assertThat(actual).containsExactly("FOO", "BAR");
+        }
+
+        @Test
+        void returnsImmutableList() {
+            var actual = new ArrayList<>(List.of("foo")).map(x -> x.toUpperCase());
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.add("bar"));
+        }
+    }
+
+    @Nested
+    class MapView {
+
+        @Test
+        void appliesMapperOnlyToAccessedElements() {
+            var calls = new AtomicInteger();
+            var list = List.of("foo", "bar", "baz");
+
+            var actual = list.mapView(x -> {
+                calls.incrementAndGet();
+                return x.toUpperCase();
+            });
+
+            assertThat(actual).hasSize(3);
+            assertThat(actual.get(1)).isEqualTo("BAR");
+            assertThat(actual.get(1)).isEqualTo("BAR");
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        void memoizesResultsPerIndex() {
+            var calls = new AtomicInteger();
+            var list = new LinkedList<>(Arrays.asList("foo", null));
+
+            var actual = list.mapView(x -> {
+                calls.incrementAndGet();
+                return x == null ? null : x.toUpperCase();
+            }, ListExtensions.Memoization.PER_INDEX);
+
+            assertThat(actual).containsExactly("FOO", null);
+            assertThat(actual).containsExactly("FOO", null);
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        void memoizesResultsThreadSafe() {
+            var list = IntStream.range(0, 10_000).boxed().toList();
+
+            var actual = list.mapView(x -> new StringBuilder().append(x), ListExtensions.Memoization.THREAD_SAFE);
+
+            var first = actual.parallelStream().toList();
+            var second = actual.parallelStream().toList();
+            assertThat(first).hasSize(10_000);
+            for (int i = 0; i < first.size(); i++) {
+                assertThat(second.get(i)).isSameAs(first.get(i));
+            }
+        }
+
+        @Test
+        void isImmutableAndSplittable() {
+            var actual = IntStream.range(0, 100).boxed().toList().mapView(x -> x * 2);
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.add(0));
+            assertThat(actual.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(actual.spliterator().trySplit().estimateSize()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    class MapToPrimitive {
+
+        @Test
+        void collectsIntsUnboxed() {
+            var actual = List.of("a", "bb", "ccc").mapToInt(String::length);
+
+            assertThat(actual).isEqualTo(IntList.of(1, 2, 3));
+        }
+
+        @Test
+        void collectsLongsUnboxed() {
+            var actual = List.of(1, 2, 3).mapToLong(x -> x * (1L << 40));
+
+            assertThat(actual.get(2)).isEqualTo(3L << 40);
+            assertThat(actual.filter(x -> x > 1L << 40).map(x -> x >> 40)).isEqualTo(LongList.of(2, 3));
+            assertThat(actual.stream().sum()).isEqualTo(6L << 40);
+            assertThat(actual.partition(2, 2, LongList.of(0)).toList()).containsExactly(LongList.of(1L << 40, 2L << 40), LongList.of(3L << 40, 0));
+        }
+
+        @Test
+        void collectsDoublesUnboxed() {
+            var actual = List.of(1, 2, 3).mapToDouble(x -> x / 2.0);
+
+            assertThat(actual.asList()).containsExactly(0.5, 1.0, 1.5);
+            assertThat(actual.zip(DoubleList.of(0.5, 0.5), Double::sum)).isEqualTo(DoubleList.of(1.0, 1.5));
+            assertThat(actual.append(Double.NaN)).isEqualTo(DoubleList.of(0.5, 1.0, 1.5, Double.NaN));
+        }
     }
 
     @Nested
@@ -113,6 +376,212 @@ class ListExtensionsTest {
 
             assertThat(actual).containsExactly("bar");
         }
+
+        @Test
+        void filtersElementsInLinkedList() {
+            var list = new LinkedList<>(List.of("foo", "bar"));
+
+            var actual = list.filter(x -> x.equals("bar"));
+
+            assertThat(actual).containsExactly("bar");
+        }
+    }
+
+    @Nested
+    class Parallel {
+
+        private final ForkJoinPool pool = new ForkJoinPool(4);
+        private final Parallelism parallelism = Parallelism.on(pool).withThreshold(0);
+        private final List<Integer> list = IntStream.range(0, 100_000).boxed().toList();
+
+        @AfterEach
+        void shutDown() {
+            pool.shutdownNow();
+        }
+
+        @Test
+        void mapsElementsInParallel() {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+
+            var actual = list.map(x -> {
+                threads.add(Thread.currentThread());
+                return x * 2;
+            }, parallelism);
+
+            assertThat(actual).isEqualTo(list.stream().map(x -> x * 2).toList());
+            assertThat(threads).allSatisfy(thread -> assertThat(thread).isInstanceOf(ForkJoinWorkerThread.class));
+        }
+
+        @Test
+        void filtersElementsInParallel() {
+            var actual = new LinkedList<>(list).filter(x -> x % 7 == 0, parallelism);
+
+            assertThat(actual).isEqualTo(list.stream().filter(x -> x % 7 == 0).toList());
+        }
+
+        @Test
+        void collectsToMapInParallel() {
+            var actual = list.toMap(x -> x, x -> x + 1, parallelism);
+
+            assertThat(actual).isEqualTo(list.stream().collect(Collectors.toMap(x -> x, x -> x + 1)));
+        }
+
+        @Test
+        void mergesValuesInEncounterOrder() {
+            var first = list.toMap(x -> x % 3, x -> x, (a, b) -> a, parallelism);
+            var last = list.toMap(x -> x % 3, x -> x, (a, b) -> b, parallelism);
+
+            assertThat(first).containsExactly(entry(0, 0), entry(1, 1), entry(2, 2));
+            assertThat(last).containsExactly(entry(0, 99_999), entry(1, 99_997), entry(2, 99_998));
+        }
+
+        @Test
+        void throwsOnDuplicateKeys() {
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> list.toMap(x -> x == 99_999 ? 0 : x, x -> x, parallelism))
+                    .withMessageContaining("Duplicate key 0 (attempted merging values 0 and 99999)");
+        }
+
+        @Test
+        void runsOnCallingThreadBelowThreshold() {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+
+            list.map(x -> threads.add(Thread.currentThread()), Parallelism.on(pool).withThreshold(list.size() + 1));
+
+            assertThat(threads).containsExactly(Thread.currentThread());
+        }
+
+        @Test
+        void runsOnCallingThreadWithoutPolicy() {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+
+            list.map(x -> threads.add(Thread.currentThread()));
+
+            assertThat(threads).containsExactly(Thread.currentThread());
+        }
+
+        @Test
+        void throwsOnNegativeThreshold() {
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> parallelism.withThreshold(-1));
+        }
+    }
+
+    @Nested
+    class MapConcurrent {
+
+        @Test
+        void mapsElementsInListInOrder() {
+            var list = IntStream.range(0, 100).boxed().toList();
+
+            var actual = list.mapConcurrent(x -> {
+                sleep(x % 5);
+                return x * 2;
+            }, 8);
+
+            assertThat(actual).isEqualTo(IntStream.range(0, 100).mapToObj(x -> x * 2).toList());
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.set(0, 1));
+        }
+
+        @Test
+        void runsAtMostMaxConcurrencyCalls() {
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+
+            new LinkedList<>(IntStream.range(0, 50).boxed().toList()).mapConcurrent(x -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                return running.decrementAndGet();
+            }, 3);
+
+            assertThat(maxRunning.get()).isBetween(1, 3);
+        }
+
+        @Test
+        void interruptsRunningCallsAndRethrowsTheFirstFailure() throws Exception {
+            var interrupted = new CountDownLatch(1);
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> List.of(0, 1).mapConcurrent(x -> {
+                if (x == 1) {
+                    throw new IllegalStateException("failed");
+                }
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return x;
+            }, 2)).withMessage("failed");
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void interruptsRunningCallsAfterTimeout() throws Exception {
+            var interrupted = new CountDownLatch(1);
+            var executor = Executors.newCachedThreadPool();
+            try {
+                assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> List.of(0).mapConcurrent(x -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return x;
+                }, 1, Duration.ofMillis(20), executor)).withCauseInstanceOf(TimeoutException.class);
+
+                assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void waitsForCallsIgnoringInterruptsBeforeThrowing() {
+            var running = new AtomicInteger();
+            var executor = Executors.newCachedThreadPool();
+            try {
+                assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> List.of(0, 1).mapConcurrent(x -> {
+                    running.incrementAndGet();
+                    var end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                    running.decrementAndGet();
+                    return x;
+                }, 2, Duration.ofMillis(20), executor)).withCauseInstanceOf(TimeoutException.class);
+
+                assertThat(running.get()).isZero();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void throwsIfMaxConcurrencyIsNotPositive() {
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> List.of(1).mapConcurrent(x -> x, 0));
+        }
+    }
+
+    @Nested
+    class FilterConcurrent {
+
+        @Test
+        void filtersElementsInListInOrder() {
+            var list = IntStream.range(0, 100).boxed().toList();
+
+            var actual = list.filterConcurrent(x -> x % 3 == 0, 8);
+
+            assertThat(actual).isEqualTo(IntStream.range(0, 100).filter(x -> x % 3 == 0).boxed().toList());
+        }
+
+        @Test
+        void filtersElementsInLinkedList() {
+            var list = new LinkedList<>(List.of("foo", "bar"));
+
+            var actual = list.filterConcurrent(x -> x.equals("bar"), 2);
+
+            assertThat(actual).containsExactly("bar");
+        }
     }
 
     @Nested
@@ -143,5 +612,112 @@ class ListExtensionsTest {
 
             assertThat(actual).containsExactly(entry("foo", 2));
         }
+
+        @Test
+        void throwsOnCollisionInLinkedList() {
+            var list = new LinkedList<>(List.of(java.util.Map.entry("foo", 1), java.util.Map.entry("foo", 2)));
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.toMap(k -> k.getKey(), v -> v.getValue()))
+                    .withMessage("Duplicate key foo (attempted merging values 1 and 2)");
+        }
+    }
+
+    @Nested
+    class ToCompactMap {
+
+        @Test
+        void convertsListToImmutableMap() {
+            var list = List.of(java.util.Map.entry("foo", 1), java.util.Map.entry("bar", 2));
+
+            var actual = list.toCompactMap(k -> k.getKey(), v -> v.getValue());
+
+            assertThat(actual).isEqualTo(java.util.Map.of("foo", 1, "bar", 2));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.put("baz", 3));
+        }
+
+        @Test
+        void throwsOnCollision() {
+            var list = List.of(java.util.Map.entry("foo", 1), java.util.Map.entry("foo", 2));
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.toCompactMap(k -> k.getKey(), v -> v.getValue()))
+                    .withMessage("Duplicate key foo (attempted merging values 1 and 2)");
+        }
+
+        @Test
+        void mergesOnCollision() {
+            var list = List.of(java.util.Map.entry("foo", 1), java.util.Map.entry("foo", 2));
+
+            var actual = list.toCompactMap(k -> k.getKey(), v -> v.getValue(), (a, b) -> b);
+
+            assertThat(actual).containsExactly(entry("foo", 2));
+        }
+    }
+
+    @Nested
+    class ToIntMap {
+
+        @Test
+        void convertsListToMapWithPrimitiveKeys() {
+            var list = List.of("a", "bb", "ccc");
+
+            var actual = list.toIntMap(String::length, v -> v);
+
+            assertThat(actual.get(2)).isEqualTo("bb");
+            assertThat(actual.asMap()).containsExactlyInAnyOrderEntriesOf(java.util.Map.of(1, "a", 2, "bb", 3, "ccc"));
+        }
+
+        @Test
+        void throwsOnCollision() {
+            var list = List.of("foo", "bar");
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.toIntMap(String::length, v -> v))
+                    .withMessage("Duplicate key 3 (attempted merging values foo and bar)");
+        }
+
+        @Test
+        void mergesOnCollisionAndRemovesNullResults() {
+            var list = List.of("foo", "bar", "a", "b", "c");
+
+            var actual = list.toIntMap(String::length, v -> v, (a, b) -> a.equals("a") ? null : a + b, 0.75f);
+
+            assertThat(actual.asMap()).containsOnly(entry(3, "foobar"), entry(1, "c"));
+        }
+    }
+
+    @Nested
+    class ToLongMap {
+
+        @Test
+        void convertsListToMapWithPrimitiveKeys() {
+            var list = List.of(1L << 40, 2L << 40);
+
+            var actual = list.toLongMap(x -> x, x -> x >> 40);
+
+            assertThat(actual.get(2L << 40)).isEqualTo(2L);
+            assertThat(actual.containsKey(3L << 40)).isFalse();
+            assertThat(actual.asMap()).containsOnly(entry(1L << 40, 1L), entry(2L << 40, 2L));
+        }
+
+        @Test
+        void mergesOnCollision() {
+            var list = List.of(1L, 1L, 2L);
+
+            var actual = list.toLongMap(x -> x, x -> 1, Integer::sum);
+
+            assertThat(actual.asMap()).containsOnly(entry(1L, 2), entry(2L, 1));
+        }
+
+        @Test
+        void rejectsInvalidLoadFactor() {
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> List.of(1L).toLongMap(x -> x, x -> x, (a, b) -> a, 1.5f));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
-}
\ No newline at end of file
+}
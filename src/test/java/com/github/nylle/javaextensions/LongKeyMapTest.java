@@ -0,0 +1,99 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class LongKeyMapTest {
+
+    @Nested
+    class Merge {
+
+        @Test
+        void growsBeyondExpectedSize() {
+            var actual = new LongKeyMap<String>(1, LongKeyMap.DEFAULT_LOAD_FACTOR);
+
+            for (long i = 0; i < 10_000; i++) {
+                actual.merge(i << 32, "v" + i, (a, b) -> a + b);
+            }
+
+            assertThat(actual.size()).isEqualTo(10_000);
+            assertThat(actual.get(9_999L << 32)).isEqualTo("v9999");
+            assertThat(actual.get(1)).isNull();
+        }
+
+        @Test
+        void behavesLikeHashMapMerge() {
+            var random = new Random(42);
+            var expected = new HashMap<Long, Integer>();
+            var actual = new LongKeyMap<Integer>(16, 0.9f);
+
+            for (int i = 0; i < 100_000; i++) {
+                var key = (random.nextInt(2_000) - 1_000L) << 40;
+                var value = random.nextInt(10);
+                expected.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+                actual.merge(key, value, (a, b) -> a + b > 20 ? null : a + b);
+            }
+
+            assertThat(actual.asMap()).isEqualTo(expected);
+            assertThat(actual.keys()).containsExactlyInAnyOrder(expected.keySet().stream().mapToLong(x -> x).toArray());
+        }
+
+        @Test
+        void supportsExtremeKeys() {
+            var actual = new LongKeyMap<String>(2, LongKeyMap.DEFAULT_LOAD_FACTOR);
+
+            actual.merge(0, "zero", (a, b) -> b);
+            actual.merge(Long.MIN_VALUE, "min", (a, b) -> b);
+            actual.merge(Long.MAX_VALUE, "max", (a, b) -> b);
+            actual.merge(1L << 32, "high", (a, b) -> b);
+
+            assertThat(actual.asMap()).containsOnly(entry(0L, "zero"), entry(Long.MIN_VALUE, "min"), entry(Long.MAX_VALUE, "max"), entry(1L << 32, "high"));
+        }
+    }
+
+    @Nested
+    class Accessors {
+
+        @Test
+        void readWithoutBoxing() {
+            var actual = new LongKeyMap<String>(2, LongKeyMap.DEFAULT_LOAD_FACTOR);
+            actual.putIfAbsent(1, "foo");
+            actual.putIfAbsent(2, "bar");
+            var visited = new HashMap<Long, String>();
+
+            actual.forEach((key, value) -> visited.put(key, value));
+
+            assertThat(actual.containsKey(1)).isTrue();
+            assertThat(actual.containsKey(3)).isFalse();
+            assertThat(actual.getOrDefault(3, "baz")).isEqualTo("baz");
+            assertThat(visited).containsOnly(entry(1L, "foo"), entry(2L, "bar"));
+        }
+
+        @Test
+        void adaptToReadOnlyMap() {
+            var map = new LongKeyMap<String>(2, LongKeyMap.DEFAULT_LOAD_FACTOR);
+            map.putIfAbsent(1, "foo");
+
+            var actual = map.asMap();
+
+            assertThat(actual).containsOnly(entry(1L, "foo"));
+            assertThat(actual.get("1")).isNull();
+            assertThat(actual.containsKey(1)).isFalse();
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.put(2L, "bar"));
+        }
+    }
+
+    @Test
+    void rejectsInvalidLoadFactor() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LongKeyMap<String>(1, 1f));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LongKeyMap<String>(1, 0f));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LongKeyMap<String>(1, Float.NaN));
+    }
+}
@@ -1,13 +1,26 @@
 package com.github.nylle.javaextensions;
 
+import com.github.nylle.javaextensions.MapExtensions.Match;
 import com.github.nylle.javaextensions.MapExtensions.Tuple;
 import lombok.experimental.ExtensionMethod;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.BiPredicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 @ExtensionMethod(MapExtensions.class)
 class MapExtensionsTest {
@@ -48,6 +61,331 @@ class MapExtensionsTest {
         }
     }
 
+    @Nested
+    class UnionOfSortedMaps {
+
+        @Test
+        void mergesSortedMapsInKeyOrder() {
+            var left = new TreeMap<>(Map.of(1, "a", 3, "c", 5, "e"));
+            var right = new TreeMap<>(Map.of(2, "B", 3, "C", 6, "F"));
+
+            var actual = left.union(right);
+
+            assertThat(actual).isInstanceOf(TreeMap.class);
+            assertThat(actual).containsExactly(
+                    entry(1, new Tuple<>("a", null)),
+                    entry(2, new Tuple<>(null, "B")),
+                    entry(3, new Tuple<>("c", "C")),
+                    entry(5, new Tuple<>("e", null)),
+                    entry(6, new Tuple<>(null, "F")));
+        }
+
+        @Test
+        void usesTheComparatorOfBothMaps() {
+            var left = new TreeMap<String, Integer>(Comparator.reverseOrder());
+            var right = new TreeMap<String, Integer>(Comparator.reverseOrder());
+            left.putAll(Map.of("a", 1, "b", 2));
+            right.putAll(Map.of("b", 3, "c", 4));
+
+            var actual = MapExtensions.union((Map<String, Integer>) left, right);
+
+            assertThat(actual).containsExactly(
+                    entry("c", new Tuple<>(null, 4)),
+                    entry("b", new Tuple<>(2, 3)),
+                    entry("a", new Tuple<>(1, null)));
+        }
+
+        @Test
+        void fallsBackToLookupsIfComparatorsDiffer() {
+            var left = new TreeMap<>(Map.of("a", 1, "b", 2));
+            var right = new TreeMap<String, Integer>(Comparator.reverseOrder());
+            right.putAll(Map.of("b", 3, "c", 4));
+
+            var actual = left.union(right);
+
+            assertThat(actual).containsExactly(
+                    entry("a", new Tuple<>(1, null)),
+                    entry("b", new Tuple<>(2, 3)),
+                    entry("c", new Tuple<>(null, 4)));
+        }
+
+        @Test
+        void returnsALazyStreamOfEntriesInKeyOrder() {
+            var left = new TreeMap<Integer, Integer>();
+            var right = new TreeMap<Integer, Integer>();
+            for (int i = 0; i < 1000; i++) {
+                left.put(2 * i, i);
+                right.put(3 * i, i);
+            }
+
+            var actual = left.unionStream(right).limit(5).toList();
+
+            assertThat(actual).containsExactly(
+                    entry(0, new Tuple<>(0, 0)),
+                    entry(2, new Tuple<>(1, null)),
+                    entry(3, new Tuple<>(null, 1)),
+                    entry(4, new Tuple<>(2, null)),
+                    entry(6, new Tuple<>(3, 2)));
+            assertThat(left.unionStream(right).count()).isEqualTo(left.union(right).size());
+        }
+
+        @Test
+        void throwsIfStreamedMapsAreSortedDifferently() {
+            var left = new TreeMap<String, Integer>();
+            var right = new TreeMap<String, Integer>(Comparator.reverseOrder());
+
+            assertThatIllegalArgumentException().isThrownBy(() -> left.unionStream(right));
+        }
+    }
+
+    @Nested
+    class CompactUnion {
+
+        @Test
+        void equalsTheUnion() {
+            var left = Map.of("1", "foo", "2", "left");
+            var right = Map.of("1", "bar", "3", "right");
+
+            var actual = left.compactUnion(right);
+
+            assertThat(actual).isInstanceOf(CompactMap.class).isEqualTo(left.union(right));
+            assertThat(actual.capacity()).isEqualTo(8);
+        }
+    }
+
+    @Nested
+    class Intersection {
+
+        @Test
+        void returnsValuesForKeysPresentInBothMaps() {
+            var left = new HashMap<String, String>(Map.of("1", "foo", "2", "left"));
+            left.put("3", null);
+            var right = Map.of("1", "bar", "3", "right", "4", "other");
+
+            var actual = left.intersection(right);
+
+            assertThat(actual).containsOnly(
+                    entry("1", new Tuple<>("foo", "bar")),
+                    entry("3", new Tuple<>(null, "right")));
+        }
+    }
+
+    @Nested
+    class Difference {
+
+        @Test
+        void returnsEntriesOfLeftMissingFromRight() {
+            var left = Map.of("1", "foo", "2", "left");
+            var right = Map.of("1", "bar", "3", "right");
+
+            assertThat(left.difference(right)).containsOnly(entry("2", "left"));
+            assertThat(right.difference(left)).containsOnly(entry("3", "right"));
+        }
+    }
+
+    @Nested
+    class SymmetricDifference {
+
+        @Test
+        void returnsKeysPresentInOneMapOrWithDifferentValues() {
+            var left = Map.of("1", "foo", "2", "same", "3", "left");
+            var right = Map.of("1", "bar", "2", "same", "4", "right");
+
+            var actual = left.symmetricDifference(right);
+
+            assertThat(actual).containsOnly(
+                    entry("1", new Tuple<>("foo", "bar")),
+                    entry("3", new Tuple<>("left", null)),
+                    entry("4", new Tuple<>(null, "right")));
+        }
+
+        @Test
+        void comparesValuesWithProvidedPredicate() {
+            var left = Map.of("1", "foo", "2", "left");
+            var right = Map.of("1", "FOO", "2", "right");
+
+            var actual = left.symmetricDifference(right, String::equalsIgnoreCase);
+
+            assertThat(actual).containsOnly(entry("2", new Tuple<>("left", "right")));
+        }
+
+        @Test
+        void treatsNullValueAsPresent() {
+            var left = new HashMap<String, String>();
+            left.put("1", null);
+            var right = new HashMap<String, String>();
+            right.put("1", null);
+
+            assertThat(left.symmetricDifference(right)).isEmpty();
+        }
+    }
+
+    @Nested
+    class ConcurrentMaps {
+        private static final int SIZE = 200_000;
+
+        private final ConcurrentHashMap<Integer, Integer> left = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, Integer> right = new ConcurrentHashMap<>();
+
+        ConcurrentMaps() {
+            for (int i = 0; i < SIZE; i++) {
+                left.put(i, i);
+                right.put(i + SIZE / 2, i % 3 == 0 ? i + SIZE / 2 : i);
+            }
+        }
+
+        @Test
+        void unionMatchesSequentialUnion() {
+            var actual = left.union(right);
+
+            assertThat(actual).isInstanceOf(ConcurrentHashMap.class).isEqualTo(new HashMap<>(left).union(new HashMap<>(right)));
+        }
+
+        @Test
+        void intersectionMatchesSequentialIntersection() {
+            var actual = left.intersection(right);
+
+            assertThat(actual).isInstanceOf(ConcurrentHashMap.class).hasSize(SIZE / 2).isEqualTo(new HashMap<>(left).intersection(new HashMap<>(right)));
+        }
+
+        @Test
+        void differenceMatchesSequentialDifference() {
+            assertThat(left.difference(right)).isInstanceOf(ConcurrentHashMap.class).hasSize(SIZE / 2).isEqualTo(new HashMap<>(left).difference(new HashMap<>(right)));
+            assertThat(right.difference(left)).hasSize(SIZE / 2).isEqualTo(new HashMap<>(right).difference(new HashMap<>(left)));
+        }
+
+        @Test
+        void symmetricDifferenceMatchesSequentialSymmetricDifference() {
+            var actual = left.symmetricDifference(right);
+
+            assertThat(actual).isInstanceOf(ConcurrentHashMap.class).isEqualTo(new HashMap<>(left).symmetricDifference(new HashMap<>(right)));
+        }
+
+        @Test
+        void traversesOnProvidedPool() {
+            var pool = new ForkJoinPool(2);
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            BiPredicate<Integer, Integer> equal = (a, b) -> {
+                threads.add(Thread.currentThread());
+                return Objects.equals(a, b);
+            };
+
+            try {
+                var actual = left.symmetricDifference(right, equal, Parallelism.on(pool).withThreshold(0));
+
+                assertThat(actual).isEqualTo(new HashMap<>(left).symmetricDifference(new HashMap<>(right)));
+                assertThat(threads).isNotEmpty().allSatisfy(thread -> assertThat(thread).isInstanceOfSatisfying(ForkJoinWorkerThread.class, worker -> assertThat(worker.getPool()).isSameAs(pool)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        void traversesOnCallingThreadIfSequential() {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            BiPredicate<Integer, Integer> equal = (a, b) -> {
+                threads.add(Thread.currentThread());
+                return Objects.equals(a, b);
+            };
+
+            var actual = left.symmetricDifference(right, equal, Parallelism.sequential());
+
+            assertThat(actual).isInstanceOf(ConcurrentHashMap.class).isEqualTo(new HashMap<>(left).symmetricDifference(new HashMap<>(right)));
+            assertThat(threads).containsExactly(Thread.currentThread());
+        }
+    }
+
+    @Nested
+    class LazyUnion {
+
+        @Test
+        void computesValuesOnAccess() {
+            var left = new HashMap<>(Map.of("1", "foo", "2", "left"));
+            var right = new HashMap<>(Map.of("1", "bar", "3", "right"));
+
+            var actual = left.unionView(right);
+
+            assertThat(actual.get("1")).isEqualTo(new Tuple<>("foo", "bar"));
+            assertThat(actual.get("3")).isEqualTo(new Tuple<>(null, "right"));
+            assertThat(actual.get("4")).isNull();
+            assertThat(actual).containsOnlyKeys("1", "2", "3");
+
+            right.put("4", "late");
+
+            assertThat(actual).hasSize(4).containsEntry("4", new Tuple<>(null, "late"));
+        }
+
+        @Test
+        void equalsTheMaterializedUnion() {
+            var left = Map.of("1", "foo", "2", "left");
+            var right = Map.of("1", "bar", "3", "right");
+
+            assertThat(left.unionView(right)).isEqualTo(left.union(right));
+        }
+
+        @Test
+        void iteratesSortedMapsInKeyOrder() {
+            var left = new TreeMap<>(Map.of(1, "a", 3, "c"));
+            var right = new TreeMap<>(Map.of(2, "b", 3, "C"));
+
+            var actual = left.unionView(right);
+
+            assertThat(actual.entrySet()).containsExactly(
+                    entry(1, new Tuple<>("a", null)),
+                    entry(2, new Tuple<>(null, "b")),
+                    entry(3, new Tuple<>("c", "C")));
+            assertThat(actual).hasSize(3);
+        }
+
+        @Test
+        void isReadOnly() {
+            var actual = Map.of("1", "foo").unionView(Map.of());
+
+            assertThatThrownBy(() -> actual.put("2", new Tuple<>("bar", null))).isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void distinguishesMissingKeysFromNullValues() {
+            var left = new HashMap<String, String>();
+            left.put("1", null);
+            var right = Map.of("2", "right");
+
+            var actual = left.unionMatches(right);
+
+            assertThat(actual).containsOnly(
+                    entry("1", new Match<>(null, true, null, false)),
+                    entry("2", new Match<>(null, false, "right", true)));
+            assertThat(actual.get("1").inBoth()).isFalse();
+            assertThat(actual.get("1").toTuple()).isEqualTo(new Tuple<>(null, null));
+        }
+    }
+
+    @Nested
+    class ForEachUnion {
+
+        @Test
+        void visitsEveryKeyOnce() {
+            var left = Map.of("1", "foo", "2", "left");
+            var right = Map.of("1", "bar", "3", "right");
+            var actual = new HashMap<String, Tuple<String>>();
+
+            left.forEachUnion(right, (key, l, r) -> assertThat(actual.put(key, new Tuple<>(l, r))).isNull());
+
+            assertThat(actual).isEqualTo(left.union(right));
+        }
+
+        @Test
+        void visitsSortedMapsInKeyOrder() {
+            var left = new TreeMap<>(Map.of(1, "a", 3, "c"));
+            var right = new TreeMap<>(Map.of(2, "b", 3, "C"));
+            var actual = new ArrayList<String>();
+
+            left.forEachUnion(right, (key, l, r) -> actual.add(key + ":" + l + ":" + r));
+
+            assertThat(actual).containsExactly("1:a:null", "2:null:b", "3:c:C");
+        }
+    }
+
     @Nested
     class ATuple {
         @Test
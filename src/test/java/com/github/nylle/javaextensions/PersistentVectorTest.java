@@ -0,0 +1,162 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class PersistentVectorTest {
+
+    @Nested
+    class Append {
+
+        @Test
+        void appendsElementsAcrossAllLevelsOfTheTrie() {
+            var expected = new ArrayList<Integer>();
+            var actual = PersistentVector.<Integer>empty();
+
+            for (int i = 0; i < 40_000; i++) {
+                expected.add(i);
+                actual = actual.append(i);
+            }
+
+            assertThat(actual).hasSize(40_000).isEqualTo(expected);
+            assertThat(actual.get(33_000)).isEqualTo(33_000);
+        }
+
+        @Test
+        void leavesPreviousVersionUnchanged() {
+            var original = PersistentVector.of("foo", "bar");
+
+            var actual = original.append("baz");
+
+            assertThat(original).containsExactly("foo", "bar");
+            assertThat(actual).containsExactly("foo", "bar", "baz");
+        }
+
+        @Test
+        void allowsNullElements() {
+            var actual = PersistentVector.of("foo").append(null);
+
+            assertThat(actual).containsExactly("foo", null);
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void replacesElementInTrieAndTail() {
+            var original = PersistentVector.copyOf(IntStream.range(0, 2_000).boxed().toList());
+
+            var actual = original.update(5, -5).update(1_999, -1_999);
+
+            assertThat(actual.get(5)).isEqualTo(-5);
+            assertThat(actual.get(1_999)).isEqualTo(-1_999);
+            assertThat(original.get(5)).isEqualTo(5);
+            assertThat(original.get(1_999)).isEqualTo(1_999);
+        }
+
+        @Test
+        void throwsOnIndexOutOfRange() {
+            var sut = PersistentVector.of("foo");
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.update(1, "bar"));
+        }
+    }
+
+    @Nested
+    class Concat {
+
+        @Test
+        void appendsAllElementsOfOther() {
+            var original = PersistentVector.copyOf(IntStream.range(0, 100).boxed().toList());
+
+            var actual = original.concat(IntStream.range(100, 5_000).boxed().toList());
+
+            assertThat(actual).isEqualTo(IntStream.range(0, 5_000).boxed().toList());
+            assertThat(original).hasSize(100);
+        }
+    }
+
+    @Nested
+    class Builder {
+
+        @Test
+        void buildsSameVectorAsRepeatedAppend() {
+            var builder = PersistentVector.<Integer>builder();
+            var expected = PersistentVector.<Integer>empty();
+            for (int i = 0; i < 40_000; i++) {
+                builder.add(i);
+                expected = expected.append(i);
+            }
+
+            assertThat(builder.build()).isEqualTo(expected);
+        }
+
+        @Test
+        void doesNotModifyVectorItStartedFrom() {
+            var original = PersistentVector.copyOf(IntStream.range(0, 1_100).boxed().toList());
+
+            var actual = original.toBuilder().add(-1).add(-2).build();
+
+            assertThat(original).hasSize(1_100);
+            assertThat(actual).hasSize(1_102).endsWith(-1, -2);
+            assertThat(original.append(-3).get(1_100)).isEqualTo(-3);
+        }
+
+        @Test
+        void cannotBeUsedAfterBuild() {
+            var builder = PersistentVector.<String>builder();
+            builder.build();
+
+            assertThatIllegalStateException().isThrownBy(() -> builder.add("foo"))
+                    .withMessage("Vector has already been built");
+        }
+    }
+
+    @Nested
+    class Streaming {
+
+        @Test
+        void isSizedAndSplittable() {
+            var sut = PersistentVector.copyOf(IntStream.range(0, 10_000).boxed().toList());
+
+            var spliterator = sut.spliterator();
+
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(spliterator.trySplit().estimateSize()).isEqualTo(4_992);
+            assertThat(sut.parallelStream().mapToInt(x -> x).toArray()).containsExactly(IntStream.range(0, 10_000).toArray());
+        }
+    }
+
+    @Nested
+    class AsList {
+
+        @Test
+        void worksWithListExtensions() {
+            List<String> sut = PersistentVector.of("foo", "bar");
+
+            var actual = ListExtensions.append(sut, "baz");
+
+            assertThat(actual).isInstanceOf(PersistentVector.class).containsExactly("foo", "bar", "baz");
+            assertThat(ListExtensions.map(actual, x -> x.toUpperCase())).containsExactly("FOO", "BAR", "BAZ");
+            assertThat(StreamExtensions.partition(actual.stream(), 2).toList()).containsExactly(List.of("foo", "bar"));
+        }
+
+        @Test
+        void isImmutable() {
+            var sut = PersistentVector.of("foo");
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.add("bar"));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.set(0, "bar"));
+        }
+    }
+}
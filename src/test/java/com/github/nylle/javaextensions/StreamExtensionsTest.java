@@ -1,14 +1,33 @@
 package com.github.nylle.javaextensions;
 
+import lombok.SneakyThrows;
 import lombok.experimental.ExtensionMethod;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @ExtensionMethod(StreamExtensions.class)
 class StreamExtensionsTest {
@@ -56,6 +75,91 @@ class StreamExtensionsTest {
 
             assertThat(actual.toList()).containsExactly(3, 6, 9);
         }
+
+        @Test
+        @DisplayName("range(start, end, step) is sized and splits evenly")
+        void isSizedAndSplitsEvenly() {
+            var spliterator = StreamExtensions.range(0, 10_000, 3).parallel().spliterator();
+
+            assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3_334);
+            assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+            assertThat(spliterator.trySplit().estimateSize()).isEqualTo(1_667);
+        }
+
+        @Test
+        @DisplayName("range(start, end, step) does not wrap around at the bounds")
+        void doesNotOverflow() {
+            var actual = StreamExtensions.range(Integer.MAX_VALUE - 5, Integer.MAX_VALUE, 3);
+
+            assertThat(actual.toList()).containsExactly(Integer.MAX_VALUE - 5, Integer.MAX_VALUE - 2);
+        }
+
+        @Test
+        @DisplayName("range(start, end, step) throws if step is not positive")
+        void throwsIfStepIsNotPositive() {
+            assertThatIllegalArgumentException().isThrownBy(() -> StreamExtensions.range(0, 10, 0))
+                    .withMessage("step must be positive: 0");
+        }
+
+        @Test
+        @DisplayName("range() can be split in chunks")
+        void infiniteRangeCanBeSplit() {
+            var actual = StreamExtensions.range().parallel().limit(100_000).mapToLong(x -> x).sum();
+
+            assertThat(actual).isEqualTo(99_999L * 100_000 / 2);
+        }
+    }
+
+    @Nested
+    class IntRange {
+
+        @Test
+        @DisplayName("intRange(start, end, step) returns a sized int stream")
+        void returnsSizedIntStream() {
+            var actual = StreamExtensions.intRange(-3, 10, 4);
+
+            assertThat(actual.toArray()).containsExactly(-3, 1, 5, 9);
+        }
+
+        @Test
+        @DisplayName("intRange(start, end, step) covers the whole int range")
+        void coversWholeIntRange() {
+            var actual = StreamExtensions.intRange(Integer.MIN_VALUE, Integer.MAX_VALUE, 1 << 30);
+
+            assertThat(actual.toArray()).containsExactly(Integer.MIN_VALUE, -(1 << 30), 0, 1 << 30);
+        }
+
+        @Test
+        @DisplayName("intRange() returns an infinite int stream")
+        void returnsInfiniteIntStream() {
+            assertThat(StreamExtensions.intRange().limit(3).toArray()).containsExactly(0, 1, 2);
+        }
+    }
+
+    @Nested
+    class LongRange {
+
+        @Test
+        @DisplayName("longRange(start, end, step) does not wrap around at the bounds")
+        void doesNotOverflow() {
+            var actual = StreamExtensions.longRange(Long.MAX_VALUE - 5, Long.MAX_VALUE, 3);
+
+            assertThat(actual.toArray()).containsExactly(Long.MAX_VALUE - 5, Long.MAX_VALUE - 2);
+        }
+
+        @Test
+        @DisplayName("longRange(start, end, step) supports more than Long.MAX_VALUE elements")
+        void supportsHugeRanges() {
+            var actual = StreamExtensions.longRange(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+
+            assertThat(actual.limit(2).toArray()).containsExactly(Long.MIN_VALUE, Long.MIN_VALUE + 2);
+        }
+
+        @Test
+        @DisplayName("longRange(end) is sized")
+        void isSized() {
+            assertThat(StreamExtensions.longRange(10_000_000_000L).spliterator().getExactSizeIfKnown()).isEqualTo(10_000_000_000L);
+        }
     }
 
     @Nested
@@ -112,6 +216,116 @@ class StreamExtensionsTest {
                     List.of(2, 3),
                     List.of(3, 4));
         }
+
+        @Test
+        @DisplayName("returns partitions that stay intact while the stream advances")
+        void returnsPartitionsThatStayIntact() {
+            var partitions = Stream.iterate(0, i -> i + 1).partition(1500, 700).limit(5).toList();
+
+            assertThat(partitions).hasSize(5);
+            for (int p = 0; p < partitions.size(); p++) {
+                assertThat(partitions.get(p)).isEqualTo(StreamExtensions.range(p * 700, p * 700 + 1500).toList());
+            }
+        }
+
+        @Test
+        @DisplayName("throws if n or step is not positive")
+        void throwsIfSizeOrStepIsNotPositive() {
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1, 2).partition(0, 1).toList());
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1, 2).partition(1, 0).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("partition(stream, n, step, pad) of a sized stream")
+    class PartitionOfSizedStream {
+
+        @Test
+        @DisplayName("reports the exact number of partitions")
+        void reportsTheExactNumberOfPartitions() {
+            var source = StreamExtensions.range(10).toList();
+
+            assertThat(source.stream().partition(3).spliterator().getExactSizeIfKnown()).isEqualTo(3);
+            assertThat(source.stream().partition(3, 1).spliterator().getExactSizeIfKnown()).isEqualTo(8);
+            assertThat(source.stream().partition(3, 4, List.of()).spliterator().getExactSizeIfKnown()).isEqualTo(3);
+            assertThat(source.stream().partition(4, 2, List.of()).spliterator().getExactSizeIfKnown()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("can be split by partition")
+        void canBeSplitByPartition() {
+            var spliterator = StreamExtensions.range(100).toList().stream().partition(10).spliterator();
+
+            var prefix = spliterator.trySplit();
+
+            assertThat(prefix).isNotNull();
+            assertThat(prefix.getExactSizeIfKnown()).isEqualTo(5);
+            assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5);
+            assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        }
+
+        @Test
+        @DisplayName("returns the same partitions in parallel as an unsized stream")
+        void returnsTheSamePartitionsInParallel() {
+            for (var length : List.of(0, 1, 7, 100, 1001)) {
+                var source = StreamExtensions.range(length).toList();
+                for (var size : List.of(1, 3, 8)) {
+                    for (var step : List.of(1, 3, 8, 11)) {
+                        for (var pad : Arrays.asList(null, List.<Integer>of(), List.of(-1), List.of(-1, -2, -3, -4, -5, -6, -7, -8))) {
+                            var expected = Stream.iterate(0, i -> i + 1).limit(length).partition(size, step, pad).toList();
+
+                            assertThat(source.stream().parallel().partition(size, step, pad).toList())
+                                    .as("length %d, size %d, step %d, pad %s", length, size, step, pad)
+                                    .isEqualTo(expected);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("partitionReusingBuffer(stream, n, step, pad)")
+    class PartitionReusingBuffer {
+
+        @Test
+        @DisplayName("returns the same view for each partition")
+        void returnsTheSameViewForEachPartition() {
+            var copies = new ArrayList<List<Integer>>();
+            var views = Collections.newSetFromMap(new IdentityHashMap<List<Integer>, Boolean>());
+
+            Stream.iterate(0, i -> i + 1).partitionReusingBuffer(3, 1).limit(4).forEach(window -> {
+                copies.add(List.copyOf(window));
+                views.add(window);
+            });
+
+            assertThat(views).hasSize(1);
+            assertThat(copies).containsExactly(
+                    List.of(0, 1, 2),
+                    List.of(1, 2, 3),
+                    List.of(2, 3, 4),
+                    List.of(3, 4, 5));
+        }
+
+        @Test
+        @DisplayName("behaves like partition when each window is copied")
+        void behavesLikePartitionWhenCopied() {
+            assertThat(Stream.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).partitionReusingBuffer(3, 4, List.of(0)).map(List::copyOf).toList()).containsExactly(
+                    List.of(0, 1, 2),
+                    List.of(4, 5, 6),
+                    List.of(8, 9, 0));
+            assertThat(Stream.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).partitionReusingBuffer(4, 4).map(List::copyOf).toList()).containsExactly(
+                    List.of(0, 1, 2, 3),
+                    List.of(4, 5, 6, 7));
+        }
+
+        @Test
+        @DisplayName("returns read-only views")
+        void returnsReadOnlyViews() {
+            var window = Stream.of(1, 2, 3).partitionReusingBuffer(2, 2).findFirst().orElseThrow();
+
+            assertThatThrownBy(() -> window.set(0, 5)).isInstanceOf(UnsupportedOperationException.class);
+        }
     }
 
     @Nested
@@ -157,6 +371,281 @@ class StreamExtensionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("batch(stream, size, maxDelay)")
+    class Batch {
+
+        @Test
+        @DisplayName("returns batches of size elements if elements arrive fast enough")
+        void returnsFullBatches() {
+            var actual = Stream.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).batch(4, Duration.ofMinutes(1)).toList();
+
+            assertThat(actual).containsExactly(
+                    List.of(0, 1, 2, 3),
+                    List.of(4, 5, 6, 7),
+                    List.of(8, 9));
+        }
+
+        @Test
+        @DisplayName("emits a shorter batch after maxDelay if the source stalls")
+        void emitsAShorterBatchAfterMaxDelay() throws Exception {
+            var release = new CountDownLatch(1);
+            var source = Stream.concat(Stream.of(1, 2, 3), Stream.of(4).peek(x -> await(release)));
+
+            try (var batches = source.batch(10, Duration.ofMillis(50))) {
+                var iterator = batches.iterator();
+
+                assertThat(iterator.next()).containsExactly(1, 2, 3);
+                release.countDown();
+                assertThat(iterator.next()).containsExactly(4);
+                assertThat(iterator.hasNext()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("supports null elements")
+        void supportsNullElements() {
+            var actual = Stream.of(1, null, 3).batch(2, Duration.ofSeconds(1)).toList();
+
+            assertThat(actual).containsExactly(Arrays.asList(1, null), List.of(3));
+        }
+
+        @Test
+        @DisplayName("rethrows exceptions of the source after the elements before them")
+        void rethrowsExceptionsOfTheSource() {
+            var iterator = Stream.of(1, 2, 0).map(x -> 4 / x).iterator().batch(10, Duration.ofSeconds(1)).iterator();
+
+            assertThat(iterator.next()).containsExactly(4, 2);
+            assertThatThrownBy(iterator::hasNext).isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("throws if size is not positive or maxDelay is negative")
+        void throwsOnInvalidArguments() {
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1).batch(0, Duration.ZERO));
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1).batch(1, Duration.ofMillis(-1)));
+        }
+
+        @Test
+        @DisplayName("forEachBatch passes the same reused view for every batch to flush")
+        void forEachBatchReusesTheBuffer() {
+            var copies = new ArrayList<List<Integer>>();
+            var views = Collections.newSetFromMap(new IdentityHashMap<List<Integer>, Boolean>());
+
+            Stream.of(0, 1, 2, 3, 4).forEachBatch(2, Duration.ofMinutes(1), batch -> {
+                copies.add(List.copyOf(batch));
+                views.add(batch);
+            });
+
+            assertThat(copies).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+            assertThat(views).hasSize(1);
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("prefetch(stream, bufferSize)")
+    class Prefetch {
+
+        @Test
+        @DisplayName("returns all elements in stream in order")
+        void returnsAllElementsInOrder() {
+            assertThat(StreamExtensions.range(10000).prefetch(16).toList()).isEqualTo(StreamExtensions.range(10000).toList());
+            assertThat(Stream.of(1, null, 3).prefetch(1).toList()).containsExactly(1, null, 3);
+        }
+
+        @Test
+        @DisplayName("reads up to bufferSize elements ahead of the consumer")
+        void readsAheadOfTheConsumer() throws Exception {
+            var produced = new AtomicInteger();
+
+            try (var stream = Stream.iterate(0, i -> i + 1).peek(x -> produced.incrementAndGet()).prefetch(8)) {
+                var iterator = stream.iterator();
+                assertThat(iterator.next()).isZero();
+
+                var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (produced.get() < 9 && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+
+                assertThat(produced.get()).isBetween(9, 10);
+            }
+        }
+
+        @Test
+        @DisplayName("rethrows exceptions of stream after the elements before them")
+        void rethrowsExceptions() {
+            var iterator = Stream.of(1, 2, 0).map(x -> 4 / x).prefetch(4).iterator();
+
+            assertThat(iterator.next()).isEqualTo(4);
+            assertThat(iterator.next()).isEqualTo(2);
+            assertThatThrownBy(iterator::hasNext).isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("rethrows checked exceptions of stream wrapped in a CompletionException")
+        void rethrowsCheckedExceptions() {
+            var iterator = Stream.of(1, 0).map(x -> x == 0 ? sneakyThrow(new IOException("failed")) : x).prefetch(4).iterator();
+
+            assertThat(iterator.next()).isEqualTo(1);
+            assertThatThrownBy(iterator::hasNext).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+        }
+
+        @Test
+        @DisplayName("has no more elements once closed")
+        void hasNoMoreElementsOnceClosed() {
+            var unstarted = Stream.iterate(0, i -> i + 1).prefetch(1);
+            var started = Stream.iterate(0, i -> i + 1).prefetch(1);
+            var unstartedIterator = unstarted.iterator();
+            var startedIterator = started.iterator();
+            assertThat(startedIterator.next()).isZero();
+
+            unstarted.close();
+            started.close();
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThat(unstartedIterator.hasNext()).isFalse();
+                assertThat(startedIterator.hasNext()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("stops reading stream when closed")
+        void stopsReadingWhenClosed() throws Exception {
+            var executor = Executors.newSingleThreadExecutor();
+            try {
+                var stream = Stream.iterate(0, i -> i + 1).prefetch(1, executor);
+                assertThat(stream.iterator().next()).isZero();
+
+                stream.close();
+
+                assertThat(executor.submit(() -> true).get(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("throws if bufferSize is not positive")
+        void throwsIfBufferSizeIsNotPositive() {
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1).prefetch(0));
+        }
+
+        @SneakyThrows
+        private static Integer sneakyThrow(Exception exception) {
+            throw exception;
+        }
+    }
+
+    @Nested
+    @DisplayName("mapConcurrent(stream, mapper, maxConcurrency)")
+    class MapConcurrent {
+
+        @Test
+        @DisplayName("returns results in the order of stream")
+        void returnsResultsInOrder() {
+            var actual = StreamExtensions.range(200).mapConcurrent(i -> {
+                sleep(i % 7);
+                return i * 2;
+            }, 16).toList();
+
+            assertThat(actual).isEqualTo(StreamExtensions.range(200).map(i -> i * 2).toList());
+        }
+
+        @Test
+        @DisplayName("runs at most maxConcurrency calls at the same time")
+        void runsAtMostMaxConcurrencyCalls() {
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+
+            StreamExtensions.range(100).mapConcurrent(i -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                return i;
+            }, 4).forEach(i -> {});
+
+            assertThat(maxRunning.get()).isBetween(1, 4);
+        }
+
+        @Test
+        @DisplayName("reads stream lazily")
+        void readsStreamLazily() {
+            var read = new AtomicInteger();
+
+            var actual = Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()).mapConcurrent(i -> i, 3).limit(5).toList();
+
+            assertThat(actual).containsExactly(0, 1, 2, 3, 4);
+            assertThat(read.get()).isBetween(5, 8);
+        }
+
+        @Test
+        @DisplayName("cancels calls in flight and rethrows the first failure")
+        void failsFast() {
+            var interrupted = new CountDownLatch(1);
+
+            assertThatThrownBy(() -> Stream.of(0, 1).mapConcurrent(i -> {
+                if (i == 1) {
+                    throw new IllegalStateException("failed");
+                }
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return i;
+            }, 2).toList()).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+            assertThat(await(interrupted)).isTrue();
+        }
+
+        @Test
+        @DisplayName("collects errors and rethrows them after all other results")
+        void collectsErrors() {
+            var executor = Executors.newFixedThreadPool(2);
+            var results = new ArrayList<Integer>();
+            try {
+                assertThatThrownBy(() -> Stream.of(1, 0, 2, 0, 4).mapConcurrent(i -> 4 / i, 2, executor, StreamExtensions.ErrorMode.COLLECT_ERRORS).forEach(results::add))
+                        .isInstanceOf(ArithmeticException.class)
+                        .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(results).containsExactly(4, 2, 1);
+        }
+
+        @Test
+        @DisplayName("throws if maxConcurrency is not positive")
+        void throwsIfMaxConcurrencyIsNotPositive() {
+            assertThatIllegalArgumentException().isThrownBy(() -> Stream.of(1).mapConcurrent(i -> i, 0));
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static boolean await(CountDownLatch latch) {
+            try {
+                return latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
     @Nested
     @DisplayName("zip(stream, other, f)")
     class Zip {
@@ -193,5 +682,125 @@ class StreamExtensionsTest {
 
             assertThat(actual).containsExactly("kungfoo", "wunderbar");
         }
+
+        @Test
+        @DisplayName("returns a sized stream that splits both sized streams in lock-step")
+        void splitsSizedStreamsInLockStep() {
+            var stream = StreamExtensions.range(1000).toList().stream();
+            var other = StreamExtensions.range(1000, 2000).toList().stream();
+
+            var spliterator = stream.zip(other, (a, b) -> b - a).spliterator();
+
+            assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(1000);
+            assertThat(spliterator.trySplit()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("pairs the same items in parallel if sized streams split at different positions")
+        void pairsTheSameItemsIfStreamsSplitDifferently() {
+            var stream = StreamExtensions.range(5000).toList().stream().parallel();
+            var other = Stream.concat(StreamExtensions.range(1000).toList().stream(), StreamExtensions.range(1000, 5000).toList().stream());
+
+            var actual = stream.zip(other, (a, b) -> a - b).toList();
+
+            assertThat(actual).hasSize(5000).containsOnly(0);
+        }
+
+        @Test
+        @DisplayName("pairs the same items in parallel if sized streams have different sizes")
+        void pairsTheSameItemsIfStreamsHaveDifferentSizes() {
+            var stream = StreamExtensions.range(10000).toList().stream().parallel();
+            var other = StreamExtensions.range(777).toList().stream();
+
+            var actual = stream.zip(other, (a, b) -> a + b).toList();
+
+            assertThat(actual).isEqualTo(StreamExtensions.range(777).map(i -> i * 2).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("zip(streams, f)")
+    class ZipAll {
+
+        @Test
+        @DisplayName("applies f to the list of nth items of all streams until one of them is exhausted")
+        void appliesFToTheNthItemsOfAllStreams() {
+            var actual = StreamExtensions.zip(List.of(Stream.of(1, 2, 3), Stream.iterate(10, i -> i + 10), Stream.of(100, 200)), items -> items.stream().mapToInt(i -> i).sum()).toList();
+
+            assertThat(actual).containsExactly(111, 222);
+        }
+
+        @Test
+        @DisplayName("returns the same results in parallel for sized streams")
+        void returnsTheSameResultsInParallel() {
+            var source = StreamExtensions.range(10000).toList();
+
+            var actual = StreamExtensions.zip(List.of(source.stream().parallel(), source.stream(), source.subList(1, 10000).stream()), List::copyOf).toList();
+
+            assertThat(actual).hasSize(9999);
+            assertThat(actual.get(0)).containsExactly(0, 0, 1);
+            assertThat(actual.get(9998)).containsExactly(9998, 9998, 9999);
+        }
+
+        @Test
+        @DisplayName("returns an empty stream if there are no streams")
+        void returnsAnEmptyStreamIfThereAreNoStreams() {
+            assertThat(StreamExtensions.zip(List.<Stream<Integer>>of(), List::size)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("zipWithIndex(stream, f)")
+    class ZipWithIndex {
+
+        @Test
+        @DisplayName("applies f to each item in stream and its index")
+        void appliesFToEachItemAndItsIndex() {
+            var actual = Stream.of("a", "b", "c").zipWithIndex((item, index) -> item + index).toList();
+
+            assertThat(actual).containsExactly("a0", "b1", "c2");
+        }
+
+        @Test
+        @DisplayName("is lazy")
+        void isLazy() {
+            var actual = Stream.iterate(0, i -> i + 1).zipWithIndex((item, index) -> item - index).limit(3).toList();
+
+            assertThat(actual).containsExactly(0L, 0L, 0L);
+        }
+
+        @Test
+        @DisplayName("keeps indices exact in parallel")
+        void keepsIndicesExactInParallel() {
+            var actual = StreamExtensions.range(100000).toList().stream().parallel().zipWithIndex((item, index) -> item - index).distinct().toList();
+
+            assertThat(actual).containsExactly(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("zip(primitiveStream, other, op)")
+    class ZipPrimitive {
+
+        @Test
+        @DisplayName("applies op to the pair of nth ints until one stream is exhausted")
+        void zipsInts() {
+            assertThat(IntStream.of(1, 2, 3).zip(IntStream.iterate(10, i -> i + 10), Integer::sum).toArray()).containsExactly(11, 22, 33);
+            assertThat(IntStream.range(0, 100000).parallel().zip(IntStream.range(0, 100000), (a, b) -> a - b).allMatch(i -> i == 0)).isTrue();
+        }
+
+        @Test
+        @DisplayName("applies op to the pair of nth longs until one stream is exhausted")
+        void zipsLongs() {
+            assertThat(LongStream.of(1, 2).zip(LongStream.of(3, 4, 5), Long::sum).toArray()).containsExactly(4L, 6L);
+            assertThat(LongStream.range(0, 100000).parallel().zip(LongStream.rangeClosed(1, 100000), (a, b) -> b - a).sum()).isEqualTo(100000L);
+        }
+
+        @Test
+        @DisplayName("applies op to the pair of nth doubles until one stream is exhausted")
+        void zipsDoubles() {
+            assertThat(DoubleStream.of(1, 2).zip(DoubleStream.of(0.5, 0.5), (a, b) -> a * b).toArray()).containsExactly(0.5, 1.0);
+            assertThat(DoubleStream.of(new double[1000]).parallel().zip(IntStream.range(0, 1000).asDoubleStream(), Double::sum).sum()).isEqualTo(499500.0);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.github.nylle.javaextensions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ZoneBucketsTest {
+
+    private static final ChronoUnit[] UNITS = {ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS};
+
+    @Nested
+    class Truncate {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"UTC", "+05:30", "Europe/Berlin", "Asia/Kolkata", "America/Sao_Paulo", "Australia/Lord_Howe", "America/St_Johns"})
+        void truncatesLikeZonedDateTime(String zone) {
+            var zoneId = ZoneId.of(zone);
+            var sut = ZoneBuckets.of(zoneId);
+
+            for (long epochSecond = Instant.parse("2018-01-01T00:00:00Z").getEpochSecond(); epochSecond < Instant.parse("2019-12-31T00:00:00Z").getEpochSecond(); epochSecond += 1_799) {
+                var instant = Instant.ofEpochSecond(epochSecond);
+                for (var unit : UNITS) {
+                    var expected = instant.atZone(zoneId).truncatedTo(unit).toInstant().getEpochSecond();
+
+                    assertThat(sut.truncate(epochSecond, unit)).as("%s in %s", instant, unit).isEqualTo(expected);
+                }
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Europe/Berlin", "America/Sao_Paulo"})
+        void truncatesToWeekStartingOnMonday(String zone) {
+            var zoneId = ZoneId.of(zone);
+            var sut = ZoneBuckets.of(zoneId);
+
+            for (long epochSecond = Instant.parse("2018-01-01T00:00:00Z").getEpochSecond(); epochSecond < Instant.parse("2019-12-31T00:00:00Z").getEpochSecond(); epochSecond += 17_999) {
+                var instant = Instant.ofEpochSecond(epochSecond);
+                var expected = instant.atZone(zoneId).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).truncatedTo(ChronoUnit.DAYS).toInstant();
+
+                assertThat(sut.truncate(epochSecond, ChronoUnit.WEEKS)).as("%s", instant).isEqualTo(expected.getEpochSecond());
+            }
+        }
+
+        @Test
+        void truncatesBeyondPrecomputedTransitions() {
+            var zoneId = ZoneId.of("Europe/Berlin");
+            var instant = Instant.parse("2150-07-01T12:34:56Z");
+
+            var actual = ZoneBuckets.of(zoneId).truncate(instant.getEpochSecond(), ChronoUnit.DAYS);
+
+            assertThat(actual).isEqualTo(Instant.parse("2150-06-30T22:00:00Z").getEpochSecond());
+        }
+
+        @Test
+        void throwsOnUnsupportedUnit() {
+            assertThatIllegalArgumentException().isThrownBy(() -> ZoneBuckets.of(ZoneId.of("UTC")).truncate(0, ChronoUnit.MONTHS))
+                    .withMessage("Unsupported unit: Months");
+        }
+    }
+
+    @Nested
+    class TruncateToWeek {
+
+        @Test
+        void usesFirstDayOfWeek() {
+            var sut = ZoneBuckets.of(ZoneId.of("UTC"));
+            var thursday = Instant.parse("2023-11-02T10:00:00Z").getEpochSecond();
+
+            assertThat(sut.truncateToWeek(thursday, DayOfWeek.SUNDAY)).isEqualTo(Instant.parse("2023-10-29T00:00:00Z").getEpochSecond());
+            assertThat(sut.truncateToWeek(thursday, DayOfWeek.THURSDAY)).isEqualTo(Instant.parse("2023-11-02T00:00:00Z").getEpochSecond());
+        }
+    }
+
+    @Nested
+    class OffsetSeconds {
+
+        @Test
+        void returnsOffsetAtInstant() {
+            var sut = ZoneBuckets.of(ZoneId.of("Europe/Berlin"));
+
+            assertThat(sut.offsetSeconds(Instant.parse("2023-01-01T00:00:00Z").getEpochSecond())).isEqualTo(3_600);
+            assertThat(sut.offsetSeconds(Instant.parse("2023-07-01T00:00:00Z").getEpochSecond())).isEqualTo(7_200);
+            assertThat(sut.offsetSeconds(Instant.parse("1850-07-01T00:00:00Z").getEpochSecond())).isEqualTo(3_208);
+        }
+    }
+}